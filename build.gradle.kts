@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,6 +24,9 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
+    implementation(libs.caffeine)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -31,7 +35,16 @@ dependencies {
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    sourceCompatibility = JavaVersion.VERSION_21
+}
+
+// benchmarks (src/jmh)
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    resultFormat.set("JSON")
+    profilers.set(listOf("gc"))
+    // ./gradlew jmh -Pjmh.includes=<regex> runs only the matching benchmarks
+    findProperty("jmh.includes")?.let { includes.set(listOf(it.toString())) }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
@@ -48,5 +61,19 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+// load tests (@Tag("load")), pinned virtual threads are reported to stdout
+tasks.register<Test>("loadTest") {
+    description = "Runs load tests."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    jvmArgs("-Djdk.tracePinnedThreads=short")
 }
@@ -0,0 +1,62 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * lock(PointServiceImpl), cas(CasPointService), optimistic(OptimisticPointService), actor(ActorPointService) 모드의
+ * 경합 상황 처리량 비교
+ * - users=1 : 모든 스레드가 한 유저에 몰리는 경우
+ * - users=1024 : 여러 유저로 분산되는 경우
+ * 테이블 throttle 을 제거한 대체 구현을 사용해 동시성 제어 자체의 비용만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConcurrencyModeBenchmark {
+
+    private static final long AMOUNT = 10L;
+
+    @Param({"lock", "cas", "optimistic", "actor"})
+    public String mode;
+
+    @Param({"1", "1024"})
+    public int users;
+
+    private PointService pointService;
+
+    @Setup
+    public void setUp() {
+
+        pointService = PointServiceFixture.create("zero-latency", mode);
+        PointServiceFixture.join(pointService, users);
+    }
+
+    @Benchmark
+    public UserPoint chargeThenUse() {
+
+        long id = ThreadLocalRandom.current().nextLong(users) + 1;
+        pointService.chargePoint(UserPointDto.builder().id(id).amount(AMOUNT).build());
+        return pointService.usePoint(UserPointDto.builder().id(id).amount(AMOUNT).build());
+    }
+}
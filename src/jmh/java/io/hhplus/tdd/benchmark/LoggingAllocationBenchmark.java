@@ -0,0 +1,79 @@
+package io.hhplus.tdd.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.service.MeteredPointService;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전/사용 경로의 로그 비용(호출당 할당량) 비교
+ * - layerLogs=DEBUG : 계층별 로그가 모두 이벤트로 만들어지는 경우 (변경 전 INFO 로그와 같은 양)
+ * - layerLogs=INFO : 계층별 로그는 레벨 검사에서 걸러지고 요약 이벤트만 만들어지는 경우
+ * - layerLogs=OFF : 요약 이벤트까지 끈 경우 (로그 없는 기준선)
+ * 출력은 NOPAppender 로 버리므로 I/O 가 아닌 이벤트 생성 비용만 측정된다.
+ * gc.alloc.rate.norm (B/op) 값으로 비교한다. 예) ./gradlew jmh -Pjmh.includes=LoggingAllocationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoggingAllocationBenchmark {
+
+    private static final int USERS = 1024;
+    private static final long AMOUNT = 10L;
+
+    @Param({"DEBUG", "INFO", "OFF"})
+    public String layerLogs;
+
+    private PointService pointService;
+
+    @Setup
+    public void setUp() {
+
+        logger("io.hhplus.tdd").setLevel(Level.toLevel(layerLogs));
+        logger("point.summary").setLevel("OFF".equals(layerLogs) ? Level.OFF : Level.INFO);
+
+        pointService = new MeteredPointService(PointServiceFixture.create("zero-latency", "lock"), new SimpleMeterRegistry());
+        PointServiceFixture.join(pointService, USERS);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        logger("io.hhplus.tdd").setLevel(null);
+        logger("point.summary").setLevel(null);
+    }
+
+    @Benchmark
+    public UserPoint chargeThenUse() {
+
+        long id = ThreadLocalRandom.current().nextLong(USERS) + 1;
+        pointService.chargePoint(UserPointDto.builder().id(id).amount(AMOUNT).build());
+        return pointService.usePoint(UserPointDto.builder().id(id).amount(AMOUNT).build());
+    }
+
+    private static Logger logger(String name) {
+        return (Logger) LoggerFactory.getLogger(name);
+    }
+}
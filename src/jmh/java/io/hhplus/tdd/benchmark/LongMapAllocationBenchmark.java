@@ -0,0 +1,107 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.collection.ConcurrentLongMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * userId 키 맵의 조회/갱신 비용(호출당 할당량) 비교
+ * - boxed : ConcurrentHashMap<Long, V> (조회/갱신마다 userId 를 Long 으로 박싱)
+ * - primitive : ConcurrentLongMap<V>
+ * lock 레지스트리처럼 compute 로 참조 수를 늘리고 computeIfPresent 로 줄이는 흐름과, 잔액 조회 같은 get 을 측정한다.
+ * userId 는 Long 캐시 범위(-128 ~ 127)를 넘도록 고른다.
+ * gc.alloc.rate.norm (B/op) 값으로 비교한다. 예) ./gradlew jmh -Pjmh.includes=LongMapAllocationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LongMapAllocationBenchmark {
+
+    private static final int USERS = 100_000;
+    private static final long FIRST_ID = 1_000L;
+
+    private static final BiFunction<Long, Counter, Counter> BOXED_RETAIN = (id, current) -> retain(current);
+    private static final BiFunction<Long, Counter, Counter> BOXED_RELEASE = (id, current) -> release(current);
+    private static final ConcurrentLongMap.LongObjFunction<Counter> RETAIN = (id, current) -> retain(current);
+    private static final ConcurrentLongMap.LongObjFunction<Counter> RELEASE = (id, current) -> release(current);
+
+    @Param({"boxed", "primitive"})
+    public String map;
+
+    private ConcurrentHashMap<Long, Counter> boxed;
+    private ConcurrentLongMap<Counter> primitive;
+
+    @Setup
+    public void setUp() {
+
+        boxed = new ConcurrentHashMap<>();
+        primitive = new ConcurrentLongMap<>();
+        for (long id = FIRST_ID; id < FIRST_ID + USERS; id++) {
+            boxed.put(id, new Counter());
+            primitive.put(id, new Counter());
+        }
+    }
+
+    @Benchmark
+    public Counter get() {
+
+        long id = randomId();
+        return "boxed".equals(map) ? boxed.get(id) : primitive.get(id);
+    }
+
+    @Benchmark
+    public Counter retainThenRelease() {
+
+        long id = randomId();
+        if ("boxed".equals(map)) {
+            Counter counter = boxed.compute(id, BOXED_RETAIN);
+            boxed.computeIfPresent(id, BOXED_RELEASE);
+            return counter;
+        }
+        Counter counter = primitive.compute(id, RETAIN);
+        primitive.computeIfPresent(id, RELEASE);
+        return counter;
+    }
+
+    private static long randomId() {
+        return FIRST_ID + ThreadLocalRandom.current().nextInt(USERS);
+    }
+
+    private static Counter retain(Counter current) {
+
+        Counter counter = current == null ? new Counter() : current;
+        counter.references++;
+        return counter;
+    }
+
+    // 맵 크기를 일정하게 두려고 참조 수가 0 이 되어도 제거하지 않는다. (Counter 생성은 두 맵에 공통인 비용이다)
+    private static Counter release(Counter current) {
+
+        current.references--;
+        return current;
+    }
+
+    public static final class Counter {
+
+        private int references;
+    }
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointHistory 저장 방식별 메모리 사용량 비교
+ * - records : PointHistoryTable 과 같은 ArrayList<PointHistory>
+ * - index : PointHistoryRepositoryImpl 의 유저별 컬럼 인덱스 (테이블은 보관하지 않는 ZeroLatencyPointHistoryTable)
+ * - columnar : ColumnarPointHistoryRepository 의 전체 내역 primitive 컬럼
+ * fill 은 entries 건을 저장하는 시간이며, gc.alloc.rate.norm (B/op) 이 저장하며 할당한 양이다.
+ * 저장을 마친 뒤 GC 후에도 남는 heap 은 보조 결과 retainedBytes, retainedBytesPerEntry 로 함께 보고된다.
+ * 예) ./gradlew jmh -Pjmh.includes=PointHistoryFootprintBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class PointHistoryFootprintBenchmark {
+
+    private static final int USERS = 100_000;
+
+    @Param({"records", "index", "columnar"})
+    public String layout;
+
+    @Param({"1000000", "10000000"})
+    public int entries;
+
+    private Object retained;
+
+    /**
+     * 반복마다 fill 이 남긴 heap 을 JMH 보조 결과로 보고한다.
+     * GC 는 측정 시간에 들어가지 않도록 반복 전후의 setup/teardown 에서 한다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytes;
+        public double retainedBytesPerEntry;
+
+        private long heapBefore;
+
+        @Setup(Level.Iteration)
+        public void setUp(PointHistoryFootprintBenchmark benchmark) {
+
+            benchmark.retained = null;
+            heapBefore = usedHeapAfterGc();
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown(PointHistoryFootprintBenchmark benchmark) {
+
+            retainedBytes = usedHeapAfterGc() - heapBefore;
+            retainedBytesPerEntry = (double) retainedBytes / benchmark.entries;
+            benchmark.retained = null;
+        }
+    }
+
+    @Benchmark
+    public Object fill(Footprint footprint) {
+
+        long now = System.currentTimeMillis();
+        if ("records".equals(layout)) {
+            List<PointHistory> histories = new ArrayList<>();
+            for (int i = 0; i < entries; i++) {
+                histories.add(new PointHistory(i + 1L, i % USERS + 1, 10L, type(i), now + i));
+            }
+            retained = histories;
+            return histories;
+        }
+
+        PointHistoryRepository repository = "index".equals(layout)
+                ? new PointHistoryRepositoryImpl(new ZeroLatencyPointHistoryTable(), new SimpleMeterRegistry())
+                : new ColumnarPointHistoryRepository();
+        for (int i = 0; i < entries; i++) {
+            repository.create(i % USERS + 1, 10L, type(i), now + i);
+        }
+        retained = repository;
+        return repository;
+    }
+
+    private static TransactionType type(int i) {
+        return i % 4 == 3 ? TransactionType.USE : TransactionType.CHARGE;
+    }
+
+    private static long usedHeapAfterGc() {
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
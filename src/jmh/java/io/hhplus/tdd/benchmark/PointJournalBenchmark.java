@@ -0,0 +1,205 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.config.PointJournalConfig;
+import io.hhplus.tdd.point.config.PointJournalProperties;
+import io.hhplus.tdd.point.journal.JournalEventType;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.repository.JournaledPointHistoryRepository;
+import io.hhplus.tdd.point.repository.JournaledUserPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * PointJournal 기록/재생 처리량
+ * - append : 8 스레드가 동시에 기록할 때의 초당 기록 수 (awaitFsync=true 면 group commit 대기까지 포함)
+ * - replay : events 건의 저널을 처음부터 읽는 시간
+ * - restoreBalances : 저널을 다시 열고 잔액 저장소를 복구하는 시간 (snapshot=true 면 90% 지점의 스냅샷 + 나머지 10% 재생)
+ * - restoreHistories : 저널을 다시 열고 내역 저장소를 복구하는 시간 (snapshot=true 면 90% 지점의 내역 스냅샷 + 나머지 10% 재생)
+ * - restoreAll : 애플리케이션 시작과 같이 저널을 다시 열고 잔액/내역 저장소를 모두 복구하는 시간
+ * 예) ./gradlew jmh -Pjmh.includes=PointJournalBenchmark
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PointJournalBenchmark {
+
+    private static final int USERS = 100_000;
+
+    @State(Scope.Benchmark)
+    public static class AppendState {
+
+        @Param({"false", "true"})
+        public boolean awaitFsync;
+
+        @Param({"1", "10"})
+        public int fsyncIntervalMillis;
+
+        private Path directory;
+        private PointJournal journal;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+
+            directory = Files.createTempDirectory("point-journal-append");
+            journal = open(directory, awaitFsync, fsyncIntervalMillis);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+
+            journal.close();
+            delete(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ReplayState {
+
+        @Param({"1000000", "10000000"})
+        public int events;
+
+        @Param({"false", "true"})
+        public boolean snapshot;
+
+        private Path directory;
+        private PointJournal journal;
+
+        /**
+         * 충전 내역과 잔액 변경을 한 쌍으로 events 건을 미리 기록하고, snapshot=true 면 90% 지점에서 잔액/내역 스냅샷을 쓴다.
+         */
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+
+            directory = Files.createTempDirectory("point-journal-replay");
+            try (PointJournal writer = open(directory, false, 10)) {
+                long now = System.currentTimeMillis();
+                int pairs = events / 2;
+                for (int i = 0; i < pairs; i++) {
+                    if (snapshot && i == pairs / 10 * 9) {
+                        new JournaledUserPointRepository(writer).writeSnapshot(snapshotFile(directory));
+                        new JournaledPointHistoryRepository(writer).writeSnapshot(historySnapshotFile(directory));
+                    }
+                    long userId = i % USERS + 1;
+                    writer.append(JournalEventType.CHARGE, userId, 10L, now);
+                    writer.append(JournalEventType.BALANCE, userId, 10L * (i / USERS + 1), now);
+                }
+            }
+            journal = open(directory, false, 10);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+
+            journal.close();
+            delete(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(8)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public void append(AppendState state) {
+
+        long userId = ThreadLocalRandom.current().nextLong(USERS) + 1;
+        long position = state.journal.append(JournalEventType.CHARGE, userId, 10L, System.currentTimeMillis());
+        state.journal.awaitDurable(position);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public long replay(ReplayState state) {
+
+        long[] sum = new long[1];
+        state.journal.replay((position, type, userId, value, updateMillis) -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public JournaledUserPointRepository restoreBalances(ReplayState state) throws IOException {
+
+        try (PointJournal journal = open(state.directory, false, 10)) {
+            return new JournaledUserPointRepository(journal, snapshotFile(state.directory));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public JournaledPointHistoryRepository restoreHistories(ReplayState state) throws IOException {
+
+        try (PointJournal journal = open(state.directory, false, 10)) {
+            return new JournaledPointHistoryRepository(journal, historySnapshotFile(state.directory));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public Object[] restoreAll(ReplayState state) throws IOException {
+
+        try (PointJournal journal = open(state.directory, false, 10)) {
+            return new Object[]{
+                    new JournaledUserPointRepository(journal, snapshotFile(state.directory)),
+                    new JournaledPointHistoryRepository(journal, historySnapshotFile(state.directory))};
+        }
+    }
+
+    private static Path snapshotFile(Path directory) {
+        return directory.resolve(PointJournalConfig.SNAPSHOT_FILE_NAME);
+    }
+
+    private static Path historySnapshotFile(Path directory) {
+        return directory.resolve(PointJournalConfig.HISTORY_SNAPSHOT_FILE_NAME);
+    }
+
+    private static PointJournal open(Path directory, boolean awaitFsync, int fsyncIntervalMillis) throws IOException {
+
+        PointJournalProperties properties = new PointJournalProperties();
+        properties.setAwaitFsync(awaitFsync);
+        properties.setFsyncInterval(Duration.ofMillis(fsyncIntervalMillis));
+        return new PointJournal(directory.resolve(PointJournalConfig.JOURNAL_FILE_NAME), properties, new SimpleMeterRegistry());
+    }
+
+    private static void delete(Path directory) throws IOException {
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import io.hhplus.tdd.point.exception.PointLimitExceededException;
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointServiceImpl 의 충전/사용/조회 경로 벤치마크 (throttle 없는 대체 테이블로 서비스 자체 오버헤드 측정)
+ * - 시뮬레이션된 I/O 를 포함한 수치는 ThrottledPointServiceBenchmark 가 측정한다.
+ * - users=1 : 모든 스레드가 한 유저에 몰리는 경우, users=1024 : 여러 유저로 분산되는 경우
+ * - readPercent : mixed 벤치마크에서 조회(getPoint/getPointHistory) 요청의 비율
+ * 예) ./gradlew jmh -Pjmh.includes=PointServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PointServiceBenchmark {
+
+    private static final long AMOUNT = 1L;
+    private static final int HISTORY_PAGE_SIZE = 20;
+
+    @Param({"1", "1024"})
+    public int users;
+
+    private PointService pointService;
+
+    @Setup
+    public void setUp() {
+
+        pointService = PointServiceFixture.create(tables(), "lock");
+        PointServiceFixture.join(pointService, users);
+
+        // 조회 벤치마크가 빈 결과만 보지 않도록 유저마다 한 페이지 분량의 이력을 미리 쌓아둔다.
+        if ("zero-latency".equals(tables())) {
+            for (long id = 1; id <= users; id++) {
+                for (int i = 0; i < HISTORY_PAGE_SIZE; i++) {
+                    pointService.chargePoint(UserPointDto.builder().id(id).amount(AMOUNT).build());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public UserPoint chargePoint() {
+        return charge(randomUserId());
+    }
+
+    @Benchmark
+    public UserPoint usePoint() {
+        return use(randomUserId());
+    }
+
+    @Benchmark
+    public UserPoint getPoint() {
+        return pointService.getPoint(UserPointDto.builder().id(randomUserId()).build());
+    }
+
+    @Benchmark
+    public List<PointHistory> getPointHistory() {
+        return pointService.getPointHistory(PointHistorySearchDto.builder()
+                .userId(randomUserId())
+                .limit(HISTORY_PAGE_SIZE)
+                .build());
+    }
+
+    @Benchmark
+    public Object mixed(ReadRatio ratio) {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = randomUserId();
+        int dice = random.nextInt(100);
+
+        if (dice < ratio.readPercent) {
+            return dice % 2 == 0
+                    ? pointService.getPoint(UserPointDto.builder().id(id).build())
+                    : pointService.getPointHistory(PointHistorySearchDto.builder().userId(id).limit(HISTORY_PAGE_SIZE).build());
+        }
+        return random.nextBoolean() ? charge(id) : use(id);
+    }
+
+    /**
+     * mixed 벤치마크에만 적용되는 조회 비율 (다른 벤치마크가 이 파라미터 수만큼 반복되지 않도록 분리)
+     */
+    @State(Scope.Benchmark)
+    public static class ReadRatio {
+
+        @Param({"50", "90"})
+        public int readPercent;
+    }
+
+    protected String tables() {
+        return "zero-latency";
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(users) + 1;
+    }
+
+    /**
+     * 한도에 닿으면 잔액을 초기값으로 되돌린다. 수십만 번에 한 번이라 측정값에는 영향이 없다.
+     */
+    private UserPoint charge(long id) {
+
+        try {
+            return pointService.chargePoint(UserPointDto.builder().id(id).amount(AMOUNT).build());
+        } catch (PointLimitExceededException e) {
+            return pointService.join(UserPointDto.builder().id(id).point(PointServiceFixture.INITIAL_POINT).build());
+        }
+    }
+
+    private UserPoint use(long id) {
+
+        try {
+            return pointService.usePoint(UserPointDto.builder().id(id).amount(AMOUNT).build());
+        } catch (InsufficientPointException e) {
+            return pointService.join(UserPointDto.builder().id(id).point(PointServiceFixture.INITIAL_POINT).build());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.ActorEngineProperties;
+import io.hhplus.tdd.point.config.CasConcurrencyProperties;
+import io.hhplus.tdd.point.config.OptimisticConcurrencyProperties;
+import io.hhplus.tdd.point.config.PointLockProperties;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.lock.RefCountedPointLockRegistry;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.service.ActorPointService;
+import io.hhplus.tdd.point.service.CasPointService;
+import io.hhplus.tdd.point.service.OptimisticPointService;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 벤치마크용 PointService 구성
+ * - tables=zero-latency : throttle 없는 대체 테이블 (서비스 자체의 오버헤드 측정)
+ * - tables=throttled : 실제 UserPointTable / PointHistoryTable (시뮬레이션된 I/O 포함)
+ *   두 테이블은 thread-safe 하지 않으므로 단일 스레드 벤치마크에서만 사용한다. (ThrottledPointServiceBenchmark)
+ */
+public final class PointServiceFixture {
+
+    public static final long INITIAL_POINT = 500_000L;
+
+    private PointServiceFixture() {
+    }
+
+    public static PointService create(String tables, String mode) {
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepositoryImpl(pointHistoryTable(tables), meterRegistry);
+        UserPointRepository userPointRepository = new UserPointRepositoryImpl(userPointTable(tables), meterRegistry);
+
+        return switch (mode) {
+            case "lock" -> new PointServiceImpl(pointHistoryRepository, userPointRepository,
+                    new RefCountedPointLockRegistry(new PointLockProperties()));
+            case "cas" -> new CasPointService(pointHistoryRepository, userPointRepository, new CasConcurrencyProperties());
+            case "optimistic" -> new OptimisticPointService(pointHistoryRepository, userPointRepository,
+                    optimisticProperties());
+            case "actor" -> new ActorPointService(pointHistoryRepository, userPointRepository, new ActorEngineProperties());
+            default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+        };
+    }
+
+    /**
+     * 한 유저에 몰리는 벤치마크가 재시도 한도에 걸려 중단되지 않도록 시도 횟수를 넉넉히 둔다.
+     */
+    private static OptimisticConcurrencyProperties optimisticProperties() {
+
+        OptimisticConcurrencyProperties properties = new OptimisticConcurrencyProperties();
+        properties.setMaxAttempts(1_000);
+        return properties;
+    }
+
+    public static void join(PointService pointService, int users) {
+
+        for (long id = 1; id <= users; id++) {
+            pointService.join(UserPointDto.builder().id(id).point(INITIAL_POINT).build());
+        }
+    }
+
+    private static UserPointTable userPointTable(String tables) {
+
+        return switch (tables) {
+            case "zero-latency" -> new ZeroLatencyUserPointTable();
+            case "throttled" -> new UserPointTable();
+            default -> throw new IllegalArgumentException("Unknown tables: " + tables);
+        };
+    }
+
+    private static PointHistoryTable pointHistoryTable(String tables) {
+
+        return switch (tables) {
+            case "zero-latency" -> new ZeroLatencyPointHistoryTable();
+            case "throttled" -> new PointHistoryTable();
+            default -> throw new IllegalArgumentException("Unknown tables: " + tables);
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.benchmark;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * PointServiceBenchmark 를 실제 UserPointTable / PointHistoryTable (시뮬레이션된 I/O 포함)로 측정한다.
+ * 두 테이블은 HashMap / ArrayList 위에서 동기화 없이 동작하므로 한 스레드에서만 호출한다.
+ * 예) ./gradlew jmh -Pjmh.includes=ThrottledPointServiceBenchmark
+ */
+@Threads(1)
+public class ThrottledPointServiceBenchmark extends PointServiceBenchmark {
+
+    @Override
+    protected String tables() {
+        return "throttled";
+    }
+}
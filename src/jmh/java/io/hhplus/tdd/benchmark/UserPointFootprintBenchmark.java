@@ -0,0 +1,123 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.config.OffHeapUserPointProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.OffHeapUserPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 저장 방식별 heap 크기와 GC 시간 비교
+ * - heap : UserPointTable 과 같은 HashMap<Long, UserPoint>
+ * - off-heap : OffHeapUserPointRepository 의 direct buffer 해시 테이블
+ * 준비 단계에서 users 명을 저장한 뒤 GC 후에도 남는 heap, 확보한 off-heap 크기, full GC 한 번의 시간을 보조 결과로 보고한다.
+ * update 는 임의 유저의 잔액을 바꾸는 처리량이며, 반복 동안의 GC 횟수/시간은 gc 프로파일러의 gc.count, gc.time 으로 본다.
+ * 예) ./gradlew jmh -Pjmh.includes=UserPointFootprintBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx12g", "-XX:MaxDirectMemorySize=8g"})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class UserPointFootprintBenchmark {
+
+    @Param({"heap", "off-heap"})
+    public String layout;
+
+    @Param({"10000000", "50000000"})
+    public int users;
+
+    private Map<Long, UserPoint> table;
+    private OffHeapUserPointRepository offHeap;
+
+    private long retainedHeap;
+    private long fullGcMillis;
+
+    /**
+     * 준비 단계에서 잰 값을 JMH 보조 결과로 보고한다. (반복마다 같은 값이다)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedHeapBytes;
+        public double retainedHeapBytesPerUser;
+        public long offHeapBytes;
+        public long fullGcMillis;
+
+        @Setup(Level.Trial)
+        public void setUp(UserPointFootprintBenchmark benchmark) {
+
+            retainedHeapBytes = benchmark.retainedHeap;
+            retainedHeapBytesPerUser = (double) benchmark.retainedHeap / benchmark.users;
+            offHeapBytes = benchmark.offHeap == null ? 0L : benchmark.offHeap.allocatedBytes();
+            fullGcMillis = benchmark.fullGcMillis;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        long heapBefore = usedHeapAfterGc();
+        if ("heap".equals(layout)) {
+            table = new HashMap<>();
+            long now = System.currentTimeMillis();
+            for (long id = 1; id <= users; id++) {
+                table.put(id, new UserPoint(id, 1_000L, now));
+            }
+        } else {
+            OffHeapUserPointProperties properties = new OffHeapUserPointProperties();
+            properties.setStripes(256);
+            properties.setExpectedUsers(users);
+            offHeap = new OffHeapUserPointRepository(properties, new SimpleMeterRegistry());
+            for (long id = 1; id <= users; id++) {
+                offHeap.create(id, 1_000L);
+            }
+        }
+
+        retainedHeap = usedHeapAfterGc() - heapBefore;
+        long startedAt = System.nanoTime();
+        System.gc();
+        fullGcMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    @Benchmark
+    public UserPoint update(Footprint footprint) {
+
+        long id = ThreadLocalRandom.current().nextLong(users) + 1;
+        long point = ThreadLocalRandom.current().nextLong(1_000_000L);
+        if (offHeap != null) {
+            return offHeap.update(id, point);
+        }
+        UserPoint userPoint = new UserPoint(id, point, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+    private static long usedHeapAfterGc() {
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
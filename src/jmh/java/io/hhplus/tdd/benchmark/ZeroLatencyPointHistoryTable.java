@@ -0,0 +1,27 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * throttle 없이 즉시 응답하는 PointHistoryTable 대체 구현 (서비스 자체의 오버헤드 측정용)
+ * - 조회는 repository 의 유저별 인덱스가 담당하므로 내역은 보관하지 않는다.
+ */
+public class ZeroLatencyPointHistoryTable extends PointHistoryTable {
+
+    private final AtomicLong cursor = new AtomicLong(1);
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return List.of();
+    }
+}
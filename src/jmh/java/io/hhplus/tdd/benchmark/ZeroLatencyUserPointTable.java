@@ -0,0 +1,27 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * throttle 없이 즉시 응답하는 UserPointTable 대체 구현 (서비스 자체의 오버헤드 측정용)
+ */
+public class ZeroLatencyUserPointTable extends UserPointTable {
+
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint selectById(Long id) {
+        UserPoint userPoint = table.get(id);
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+}
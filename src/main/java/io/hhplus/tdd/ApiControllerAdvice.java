@@ -1,14 +1,78 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.exception.IdempotencyKeyReusedException;
+import io.hhplus.tdd.point.exception.PointProcessingTimeoutException;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
     }
+
+    /**
+     * 요청 값이 허용 범위를 벗어난 경우 (한 번에 조회/처리할 수 있는 수 초과, 1 미만의 limit 등)
+     */
+    @ExceptionHandler(value = IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
+    }
+
+    /**
+     * 같은 Idempotency-Key 로 내용이 다른 충전/사용 요청을 보낸 경우
+     */
+    @ExceptionHandler(value = IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException e) {
+        return ResponseEntity.status(422).body(new ErrorResponse("422", e.getMessage()));
+    }
+
+    /**
+     * 다른 요청과의 충돌로 재시도 횟수 안에 반영하지 못한 경우 (다시 요청하면 처리될 수 있다)
+     */
+    @ExceptionHandler(value = PointVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handlePointVersionConflictException(PointVersionConflictException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", e.getMessage()));
+    }
+
+    /**
+     * 처리 대기열이 가득 차 요청을 받을 수 없는 경우
+     */
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException(RejectedExecutionException e) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    /**
+     * 비동기 처리가 제한 시간 안에 끝나지 않은 경우
+     */
+    @ExceptionHandler(value = TimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleTimeoutException(TimeoutException e) {
+        return ResponseEntity.status(504).body(new ErrorResponse("504", "처리 시간이 초과되었습니다."));
+    }
+
+    /**
+     * 처리 결과를 제한 시간 안에 받지 못한 경우 (actor 모드)
+     */
+    @ExceptionHandler(value = PointProcessingTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handlePointProcessingTimeoutException(PointProcessingTimeoutException e) {
+        return ResponseEntity.status(504).body(new ErrorResponse("504", "처리 시간이 초과되었습니다."));
+    }
+
+    @Override
+    protected ResponseEntity<Object> handleAsyncRequestTimeoutException(AsyncRequestTimeoutException ex, HttpHeaders headers,
+                                                                        HttpStatusCode status, WebRequest request) {
+        return ResponseEntity.status(504).body(new ErrorResponse("504", "처리 시간이 초과되었습니다."));
+    }
 }
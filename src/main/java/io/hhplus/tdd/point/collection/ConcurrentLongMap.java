@@ -0,0 +1,366 @@
+package io.hhplus.tdd.point.collection;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongFunction;
+
+/**
+ * long 키 전용 동시성 해시 맵 (userId 별 상태 보관용)
+ * - 키를 Long 으로 박싱하지 않고 long[] 에 그대로 두며, 충돌은 linear probing 으로 처리한다.
+ * - 맵을 segment 로 나누고, 변경은 segment 의 write lock 으로 직렬화한다. 가득 차면 해당 segment 만 두 배로 늘린다.
+ * - 조회는 optimistic read 로 lock 없이 읽고, 그 사이 변경이 있었으면 read lock 으로 다시 읽는다.
+ * - compute 계열 함수는 segment lock 안에서 실행되므로 짧아야 하고, 같은 맵을 다시 호출하면 안 된다. (ConcurrentHashMap 과 같다)
+ * - null 값은 저장하지 않으며, 함수가 null 을 반환하면 항목을 제거한다. 함수가 예외를 던지면 맵은 바뀌지 않는다.
+ */
+public class ConcurrentLongMap<V> {
+
+    private static final int DEFAULT_SEGMENTS = 64;
+    private static final int MIN_CAPACITY = 8;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final Segment<V>[] segments;
+    private final int segmentMask;
+
+    public ConcurrentLongMap() {
+        this(DEFAULT_SEGMENTS);
+    }
+
+    /**
+     * segment 수는 2의 거듭제곱으로 올린다.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap(int concurrencyLevel) {
+
+        int size = concurrencyLevel <= 1 ? 1 : Integer.highestOneBit(concurrencyLevel - 1) << 1;
+        this.segments = (Segment<V>[]) new Segment[size];
+        this.segmentMask = size - 1;
+        for (int i = 0; i < size; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    public V get(long key) {
+
+        long hash = hash(key);
+        return segmentOf(hash).get(key, hash);
+    }
+
+    public void put(long key, V value) {
+
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        long hash = hash(key);
+        segmentOf(hash).put(key, hash, value);
+    }
+
+    /**
+     * 값이 있으면 lock 없이 바로 반환하고, 없을 때만 segment lock 안에서 만든다.
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+
+        long hash = hash(key);
+        Segment<V> segment = segmentOf(hash);
+        V value = segment.get(key, hash);
+        if (value != null) {
+            return value;
+        }
+        return segment.computeIfAbsent(key, hash, mappingFunction);
+    }
+
+    public V computeIfPresent(long key, LongObjFunction<V> remappingFunction) {
+
+        long hash = hash(key);
+        return segmentOf(hash).compute(key, hash, remappingFunction, true);
+    }
+
+    /**
+     * 현재 값(없으면 null)으로 새 값을 만들어 저장하고 반환한다. null 을 반환하면 항목을 제거한다.
+     */
+    public V compute(long key, LongObjFunction<V> remappingFunction) {
+
+        long hash = hash(key);
+        return segmentOf(hash).compute(key, hash, remappingFunction, false);
+    }
+
+    /**
+     * segment 별로 항목을 복사한 뒤 lock 밖에서 전달한다. 그 사이의 변경은 반영되지 않을 수 있다.
+     */
+    public void forEach(LongObjConsumer<? super V> action) {
+
+        for (Segment<V> segment : segments) {
+            segment.forEach(action);
+        }
+    }
+
+    public int size() {
+
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+
+        for (Segment<V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment<V> segmentOf(long hash) {
+        return segments[(int) (hash >>> 32) & segmentMask];
+    }
+
+    /**
+     * segment 선택에는 상위 32 bit, 슬롯 선택에는 하위 bit 를 쓰므로 키의 bit 를 고르게 섞는다. (murmur3 fmix64)
+     */
+    private static long hash(long key) {
+
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @FunctionalInterface
+    public interface LongObjFunction<V> {
+
+        V apply(long key, V value);
+    }
+
+    @FunctionalInterface
+    public interface LongObjConsumer<V> {
+
+        void accept(long key, V value);
+    }
+
+    private static final class Segment<V> {
+
+        private final StampedLock lock = new StampedLock();
+
+        // write lock 안에서만 바꾸고, 조회는 optimistic read 로 읽은 뒤 validate 한다.
+        private Table table = new Table(MIN_CAPACITY);
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        private V get(long key, long hash) {
+
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                Object value = table.find(key, hash);
+                if (lock.validate(stamp)) {
+                    return (V) value;
+                }
+            }
+
+            stamp = lock.readLock();
+            try {
+                return (V) table.find(key, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private V compute(long key, long hash, LongObjFunction<V> remappingFunction, boolean onlyIfPresent) {
+
+            long stamp = lock.writeLock();
+            try {
+                int index = table.indexOf(key, hash);
+                V value = (V) table.values[index];
+                if (onlyIfPresent && value == null) {
+                    return null;
+                }
+                return store(index, key, value, remappingFunction.apply(key, value));
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private V computeIfAbsent(long key, long hash, LongFunction<? extends V> mappingFunction) {
+
+            long stamp = lock.writeLock();
+            try {
+                int index = table.indexOf(key, hash);
+                V value = (V) table.values[index];
+                if (value != null) {
+                    return value;
+                }
+                return store(index, key, null, mappingFunction.apply(key));
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void put(long key, long hash, V updated) {
+
+            long stamp = lock.writeLock();
+            try {
+                int index = table.indexOf(key, hash);
+                store(index, key, (V) table.values[index], updated);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * write lock 안에서 index 칸의 값을 updated 로 바꾼다. updated 가 null 이면 항목을 제거한다.
+         */
+        private V store(int index, long key, V value, V updated) {
+
+            if (updated == null) {
+                if (value != null) {
+                    table.removeAt(index);
+                    size--;
+                }
+                return null;
+            }
+
+            table.keys[index] = key;
+            table.values[index] = updated;
+            if (value == null && ++size > table.threshold) {
+                table = table.resize();
+            }
+            return updated;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void forEach(LongObjConsumer<? super V> action) {
+
+            long[] keys;
+            Object[] values;
+            long stamp = lock.readLock();
+            try {
+                if (size == 0) {
+                    return;
+                }
+                keys = table.keys.clone();
+                values = table.values.clone();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    action.accept(keys[i], (V) values[i]);
+                }
+            }
+        }
+
+        private int size() {
+
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void clear() {
+
+            long stamp = lock.writeLock();
+            try {
+                table = new Table(MIN_CAPACITY);
+                size = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * 같은 위치의 keys/values 가 한 항목이며, values 가 null 인 칸은 비어 있는 칸이다.
+     */
+    private static final class Table {
+
+        private final long[] keys;
+        private final Object[] values;
+        private final int mask;
+        private final int threshold;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        /**
+         * optimistic read 중에는 값이 섞여 있을 수 있으므로, probing 은 테이블 크기만큼만 한다.
+         */
+        private Object find(long key, long hash) {
+
+            int index = (int) hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                Object value = values[index];
+                if (value == null) {
+                    return null;
+                }
+                if (keys[index] == key) {
+                    return value;
+                }
+                index = index + 1 & mask;
+            }
+            return null;
+        }
+
+        /**
+         * key 가 있는 칸, 없으면 key 가 들어갈 빈 칸의 위치 (부하율을 1 미만으로 유지하므로 빈 칸은 항상 있다)
+         */
+        private int indexOf(long key, long hash) {
+
+            int index = (int) hash & mask;
+            while (values[index] != null && keys[index] != key) {
+                index = index + 1 & mask;
+            }
+            return index;
+        }
+
+        /**
+         * 뒤따르는 항목을 앞으로 당겨 probing 경로에 빈 칸이 생기지 않게 한다. (backward shift deletion)
+         */
+        private void removeAt(int index) {
+
+            int hole = index;
+            int current = index;
+            while (true) {
+                current = current + 1 & mask;
+                if (values[current] == null) {
+                    break;
+                }
+                int home = (int) hash(keys[current]) & mask;
+                if ((current - home & mask) >= (current - hole & mask)) {
+                    keys[hole] = keys[current];
+                    values[hole] = values[current];
+                    hole = current;
+                }
+            }
+            keys[hole] = 0L;
+            values[hole] = null;
+        }
+
+        private Table resize() {
+
+            Table resized = new Table(keys.length * 2);
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    int index = resized.indexOf(keys[i], hash(keys[i]));
+                    resized.keys[index] = keys[i];
+                    resized.values[index] = values[i];
+                }
+            }
+            return resized;
+        }
+    }
+}
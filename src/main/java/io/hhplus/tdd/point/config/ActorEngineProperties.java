@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * actor 동시성 모드 설정
+ * - partitions : userId 해시로 나누는 단일 스레드 이벤트 루프 수
+ * - mailboxCapacity : 파티션별 대기 큐 크기 (가득 차면 요청을 거절한다)
+ * - maxBatchSize : 이벤트 루프가 한 번에 꺼내 유저별로 합쳐 처리하는 최대 명령 수
+ * - awaitTimeout : 요청 스레드가 명령의 처리 결과를 기다리는 최대 시간
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.concurrency.actor")
+public class ActorEngineProperties {
+
+    private int partitions = 8;
+    private int mailboxCapacity = 10_000;
+    private int maxBatchSize = 256;
+    private Duration awaitTimeout = Duration.ofSeconds(5);
+}
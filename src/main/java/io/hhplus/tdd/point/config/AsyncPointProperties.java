@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비동기 포인트 API(/async/point) 실행 설정
+ * - poolSize : 전용 executor 의 스레드 수
+ * - queueCapacity : 실행 대기 큐 크기 (가득 차면 요청을 거절한다, 503)
+ * - timeout : 요청 하나의 최대 처리 시간 (초과 시 504)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.async")
+public class AsyncPointProperties {
+
+    private int poolSize = 64;
+    private int queueCapacity = 1_000;
+    private Duration timeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * cas 동시성 모드 설정
+ * - maxCells : 메모리에 유지하는 유저별 잔액 cell 의 최대 수, 넘으면 저장이 끝난 cell 을 제거한다. (다음 요청에서 다시 읽는다)
+ * - retryInterval : 저장에 실패한 잔액/내역을 백그라운드에서 다시 저장하는 주기
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.concurrency.cas")
+public class CasConcurrencyProperties {
+
+    private int maxCells = 100_000;
+    private Duration retryInterval = Duration.ofMillis(100);
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * PointHistory 비동기 저장 파이프라인 설정
+ * - enabled : 파이프라인 사용 여부
+ * - queueCapacity : 저장 대기 큐 크기 (가득 차면 요청 스레드가 대기한다)
+ * - batchSize : writer 가 한 번에 꺼내서 저장하는 최대 건수
+ * - retryBackoff / maxRetryBackoff : 저장 실패 시 같은 내역을 다시 저장하기 전 대기 시간 (실패할 때마다 두 배, 최대 maxRetryBackoff)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.history.pipeline")
+public class HistoryPipelineProperties {
+
+    private boolean enabled = true;
+    private int queueCapacity = 10_000;
+    private int batchSize = 100;
+    private Duration retryBackoff = Duration.ofMillis(10);
+    private Duration maxRetryBackoff = Duration.ofSeconds(1);
+}
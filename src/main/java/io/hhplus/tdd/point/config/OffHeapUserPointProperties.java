@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * off-heap UserPoint 저장소 설정 (point.user-point.store=off-heap)
+ * - stripes : 해시 테이블을 나누는 수 (2의 거듭제곱), 쓰기는 stripe 단위로 잠근다.
+ * - expectedUsers : 처음 확보할 유저 수, 넘으면 stripe 별로 두 배씩 늘린다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.user-point.off-heap")
+public class OffHeapUserPointProperties {
+
+    private int stripes = 64;
+    private long expectedUsers = 1_000_000L;
+}
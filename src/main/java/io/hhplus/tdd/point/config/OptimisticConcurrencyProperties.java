@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * optimistic 동시성 모드 설정
+ * - maxAttempts : version 충돌 시 최대 시도 횟수 (첫 시도 포함)
+ * - initialBackoff : 첫 재시도 전 대기 시간의 상한, 재시도마다 두 배로 늘린다.
+ * - maxBackoff : 재시도 전 대기 시간의 최대 상한
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.concurrency.optimistic")
+public class OptimisticConcurrencyProperties {
+
+    private int maxAttempts = 10;
+    private Duration initialBackoff = Duration.ofMillis(1);
+    private Duration maxBackoff = Duration.ofMillis(50);
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 충전/사용 요청의 Idempotency-Key 중복 제거 설정
+ * - enabled : 사용 여부, false 면 헤더를 무시하고 매번 실행한다.
+ * - maximumSize : 완료된 결과를 보관하는 최대 키 수 (W-TinyLFU 로 교체, 실행 중인 요청은 세지 않는다)
+ * - expireAfterWrite : 요청이 완료된 후 이 시간이 지나면 같은 키로 다시 실행된다. (클라이언트 재시도 기간보다 길게 둔다)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.idempotency")
+public class PointIdempotencyProperties {
+
+    private boolean enabled = true;
+    private long maximumSize = 100_000L;
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
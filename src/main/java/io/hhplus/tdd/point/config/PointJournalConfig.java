@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.repository.JournaledPointHistoryRepository;
+import io.hhplus.tdd.point.repository.JournaledPointSnapshotter;
+import io.hhplus.tdd.point.repository.JournaledUserPointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 테이블 대신 저널 파일에 포인트 변경을 남기는 저장소 구성 (point.storage.type=journal)
+ * 서비스는 @Primary 인 저널 저장소를 주입받으며, 시작 시 잔액/내역 스냅샷을 읽고 그 이후의 저널을 재생해 잔액과 내역을 복구한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "point.storage", name = "type", havingValue = "journal")
+public class PointJournalConfig {
+
+    public static final String JOURNAL_FILE_NAME = "point.journal";
+    public static final String SNAPSHOT_FILE_NAME = "point.snapshot";
+    public static final String HISTORY_SNAPSHOT_FILE_NAME = "point-history.snapshot";
+
+    @Bean
+    public PointJournal pointJournal(PointJournalProperties properties, MeterRegistry meterRegistry) throws IOException {
+        return new PointJournal(Path.of(properties.getDirectory()).resolve(JOURNAL_FILE_NAME), properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public JournaledUserPointRepository journaledUserPointRepository(PointJournal pointJournal, PointJournalProperties properties) {
+        return new JournaledUserPointRepository(pointJournal, snapshotFile(properties));
+    }
+
+    @Bean
+    @Primary
+    public JournaledPointHistoryRepository journaledPointHistoryRepository(PointJournal pointJournal, PointJournalProperties properties) {
+        return new JournaledPointHistoryRepository(pointJournal, historySnapshotFile(properties));
+    }
+
+    /**
+     * 잔액/내역 스냅샷을 주기적으로 써서 재시작 시 재생할 저널 범위를 줄인다.
+     */
+    @Bean
+    public JournaledPointSnapshotter journaledPointSnapshotter(JournaledUserPointRepository journaledUserPointRepository,
+                                                               JournaledPointHistoryRepository journaledPointHistoryRepository,
+                                                               PointJournalProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        return new JournaledPointSnapshotter(journaledUserPointRepository, journaledPointHistoryRepository,
+                snapshotFile(properties), historySnapshotFile(properties), properties, meterRegistry);
+    }
+
+    private static Path snapshotFile(PointJournalProperties properties) {
+        return Path.of(properties.getDirectory()).resolve(SNAPSHOT_FILE_NAME);
+    }
+
+    private static Path historySnapshotFile(PointJournalProperties properties) {
+        return Path.of(properties.getDirectory()).resolve(HISTORY_SNAPSHOT_FILE_NAME);
+    }
+}
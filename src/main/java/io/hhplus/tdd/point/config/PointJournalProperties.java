@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 저널 저장소 설정 (point.storage.type=journal)
+ * - directory : 저널 파일(point.journal)을 두는 디렉터리
+ * - segmentSize : 한 번에 memory-map 하는 파일 구간 크기
+ * - fsyncInterval : 쌓인 기록을 한 번에 디스크에 반영하는 주기 (group commit)
+ * - awaitFsync : true 면 쓰기 요청은 자신의 기록이 디스크에 반영될 때까지 기다린다.
+ * - fsyncTimeout : 쓰기 요청이 디스크 반영을 기다리는 최대 시간 (넘기거나 fsync 가 실패하면 요청은 실패한다)
+ * - snapshotInterval : 잔액/내역 스냅샷을 쓰는 주기 (0 이면 종료 시에만 쓴다)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.storage.journal")
+public class PointJournalProperties {
+
+    private String directory = "data";
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    private Duration fsyncInterval = Duration.ofMillis(5);
+    private boolean awaitFsync = true;
+    private Duration fsyncTimeout = Duration.ofSeconds(1);
+    private Duration snapshotInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 유저별 lock 레지스트리 설정
+ * - registry : ref-counted (유저별 lock, 사용 중이 아니면 제거) | striped (고정 개수의 lock 을 userId 해시로 공유)
+ * - stripes : striped 모드의 lock 개수
+ * - fair : 공정 lock 사용 여부
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.lock")
+public class PointLockProperties {
+
+    private String registry = "ref-counted";
+    private int stripes = 1024;
+    private boolean fair = true;
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.repository.AsyncPointHistoryRepository;
+import io.hhplus.tdd.point.repository.CachingUserPointRepository;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.repository.OffHeapUserPointRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepositoryImpl;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.hhplus.tdd.point.repository.WriteBehindUserPointRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class PointRepositoryConfig {
+
+    /**
+     * UserPointTable 앞단에 write-behind 캐시를 둔다.
+     * 서비스는 @Primary 인 캐시를 주입받고, 테이블 반영은 백그라운드 flusher 가 담당한다.
+     * 조회 캐시(point.user-point.cache.enabled)를 켜거나, off-heap 저장소(point.user-point.store=off-heap)나
+     * 저널 저장소(point.storage.type=journal)를 쓰면 적용되지 않는다.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${point.user-point.write-behind.enabled:true} and !${point.user-point.cache.enabled:false}"
+            + " and '${point.user-point.store:table}' == 'table' and '${point.storage.type:table}' == 'table'")
+    public UserPointRepository writeBehindUserPointRepository(UserPointRepositoryImpl userPointRepositoryImpl,
+                                                              WriteBehindProperties properties) {
+        return new WriteBehindUserPointRepository(userPointRepositoryImpl, properties);
+    }
+
+    /**
+     * UserPointTable 앞단에 크기가 제한된 read-through 캐시를 둔다.
+     * 저장은 바로 테이블에 반영되고, 조회만 캐시에서 응답한다.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${point.user-point.cache.enabled:false} and '${point.user-point.store:table}' == 'table'"
+            + " and '${point.storage.type:table}' == 'table'")
+    public UserPointRepository cachingUserPointRepository(UserPointRepositoryImpl userPointRepositoryImpl,
+                                                          UserPointCacheProperties properties,
+                                                          MeterRegistry meterRegistry) {
+        return new CachingUserPointRepository(userPointRepositoryImpl, properties, meterRegistry);
+    }
+
+    /**
+     * UserPointTable 대신 heap 밖의 해시 테이블에 잔액을 저장한다. 유저 수가 많아도 heap 크기와 GC 시간이 늘지 않는다.
+     * 저널 저장소(point.storage.type=journal)를 쓰면 적용되지 않는다.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnExpression("'${point.user-point.store:table}' == 'off-heap' and '${point.storage.type:table}' == 'table'")
+    public UserPointRepository offHeapUserPointRepository(OffHeapUserPointProperties properties, MeterRegistry meterRegistry) {
+        return new OffHeapUserPointRepository(properties, meterRegistry);
+    }
+
+    /**
+     * PointHistory 저장을 비동기 파이프라인으로 처리해 포인트 변경 임계구역에서 제외한다.
+     * 컬럼 저장소(point.history.store=columnar)나 저널 저장소(point.storage.type=journal)를 쓰면 적용되지 않는다.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnExpression("${point.history.pipeline.enabled:true} and '${point.history.store:table}' == 'table'"
+            + " and '${point.storage.type:table}' == 'table'")
+    public PointHistoryRepository asyncPointHistoryRepository(PointHistoryRepositoryImpl pointHistoryRepositoryImpl,
+                                                              HistoryPipelineProperties properties) {
+        return new AsyncPointHistoryRepository(pointHistoryRepositoryImpl, properties);
+    }
+
+    /**
+     * PointHistoryTable 대신 primitive 컬럼에 내역을 저장한다. 저장 지연이 없으므로 비동기 파이프라인 없이 바로 저장한다.
+     * 저널 저장소(point.storage.type=journal)를 쓰면 적용되지 않는다.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnExpression("'${point.history.store:table}' == 'columnar' and '${point.storage.type:table}' == 'table'")
+    public PointHistoryRepository columnarPointHistoryRepository() {
+        return new ColumnarPointHistoryRepository();
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.service.AbstractPointService;
+import io.hhplus.tdd.point.service.IdempotentPointService;
+import io.hhplus.tdd.point.service.MeteredPointService;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class PointServiceConfig {
+
+    /**
+     * 동시성 모드별 PointService 앞단에 데코레이터를 둔다. 컨트롤러는 @Primary 인 가장 바깥 데코레이터를 주입받는다.
+     * - point.metrics.enabled : 처리 시간/예외 집계 (MeteredPointService)
+     * - point.idempotency.enabled : Idempotency-Key 중복 제거 (IdempotentPointService), 재시도는 실행되지 않으므로 집계 바깥에 둔다.
+     */
+    @Bean
+    @Primary
+    public PointService decoratedPointService(AbstractPointService pointService,
+                                              @Value("${point.metrics.enabled:true}") boolean metricsEnabled,
+                                              PointIdempotencyProperties idempotencyProperties,
+                                              MeterRegistry meterRegistry) {
+
+        PointService decorated = pointService;
+        if (metricsEnabled) {
+            decorated = new MeteredPointService(decorated, meterRegistry);
+        }
+        if (idempotencyProperties.isEnabled()) {
+            decorated = new IdempotentPointService(decorated, idempotencyProperties, meterRegistry);
+        }
+        return decorated;
+    }
+}
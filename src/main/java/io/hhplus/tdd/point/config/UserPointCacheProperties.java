@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * UserPoint 조회 캐시 설정 (write-behind 캐시 대신 사용한다)
+ * - enabled : 캐시 사용 여부, true 면 write-behind 는 적용되지 않는다.
+ * - maximumSize : 캐시에 유지하는 최대 유저 수 (W-TinyLFU 로 교체)
+ * - expireAfterWrite : 저장/조회 후 이 시간이 지나면 테이블에서 다시 읽는다.
+ * - maxStaleness : 0 보다 크면 만료된 값을 이 시간까지는 그대로 응답하고 백그라운드에서 다시 읽는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.user-point.cache")
+public class UserPointCacheProperties {
+
+    private boolean enabled = false;
+    private long maximumSize = 100_000L;
+    private Duration expireAfterWrite = Duration.ofMinutes(1);
+    private Duration maxStaleness = Duration.ZERO;
+}
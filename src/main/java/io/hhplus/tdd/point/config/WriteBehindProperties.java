@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * UserPoint write-behind 캐시 설정
+ * - enabled : 캐시 사용 여부
+ * - flushInterval : 백그라운드 flusher 가 dirty 엔트리를 반영하는 주기
+ * - maxDirtyAge : 반영되지 않은 변경이 유지될 수 있는 최대 시간 (초과 시 쓰기 요청에서 즉시 반영)
+ * - expireAfterAccess : 반영이 끝난 엔트리를 이 시간 동안 사용하지 않으면 캐시에서 제거한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point.user-point.write-behind")
+public class WriteBehindProperties {
+
+    private boolean enabled = true;
+    private Duration flushInterval = Duration.ofMillis(100);
+    private Duration maxDirtyAge = Duration.ofSeconds(1);
+    private Duration expireAfterAccess = Duration.ofMinutes(10);
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.service.AsyncPointService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PointController 와 같은 API 를 비동기로 처리하는 컨트롤러
+ * - 처리는 AsyncPointService 의 전용 executor 에서 진행되고, servlet 스레드는 바로 반환된다.
+ * - 거절되면 503, 시간 초과 시 504 로 응답한다. (ApiControllerAdvice)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/async/point")
+public class AsyncPointController {
+
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private final AsyncPointService asyncPointService;
+
+    public AsyncPointController(AsyncPointService asyncPointService) {
+        this.asyncPointService = Objects.requireNonNull(asyncPointService);
+    }
+
+    /**
+     * 특정 유저의 포인트를 조회하는 기능
+     */
+    @GetMapping("{id}")
+    public CompletableFuture<ResponseEntity<UserPointDto>> point(@PathVariable("id") long id) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("GET /async/point/{} - Retrieving point for user with ID: {}", id, id);
+        }
+        return asyncPointService.getPoint(UserPointDto.builder().id(id).build())
+                .thenApply(userPoint -> ResponseEntity.ok(UserPointDto.from(userPoint)));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역 조회 기능 (조건은 PointController 와 같다)
+     */
+    @GetMapping("{id}/histories")
+    public CompletableFuture<ResponseEntity<List<PointHistoryDto>>> history(@PathVariable("id") long userId,
+                                                                            @RequestParam(value = "cursor", required = false) Long cursor,
+                                                                            @RequestParam(value = "limit", required = false) Integer limit,
+                                                                            @RequestParam(value = "from", required = false) Long from,
+                                                                            @RequestParam(value = "to", required = false) Long to,
+                                                                            @RequestParam(value = "type", required = false) TransactionType type) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("GET /async/point/{}/histories - Retrieving point histories for user with ID: {}", userId, userId);
+        }
+        return asyncPointService.getPointHistory(PointHistorySearchDto.of(userId, cursor, limit, from, to, type))
+                .thenApply(histories -> ResponseEntity.ok(PointHistoryDto.from(histories)));
+    }
+
+    /**
+     * 특정 유저의 포인트를 충전하는 기능
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 충전하지 않고 처음 결과를 반환한다.
+     */
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<ResponseEntity<UserPointDto>> charge(@PathVariable("id") long id, @RequestBody long amount,
+                                                                  @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("PATCH /async/point/{}/charge - Charging {} points for user with ID: {}", id, amount, id);
+        }
+        return asyncPointService.chargePoint(UserPointDto.builder()
+                        .id(id)
+                        .amount(amount)
+                        .idempotencyKey(idempotencyKey)
+                        .build())
+                .thenApply(userPoint -> ResponseEntity.ok(UserPointDto.from(userPoint)));
+    }
+
+    /**
+     * 특정 유저의 포인트를 사용하는 기능
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 사용하지 않고 처음 결과를 반환한다.
+     */
+    @PatchMapping("{id}/use")
+    public CompletableFuture<ResponseEntity<UserPointDto>> use(@PathVariable("id") long id, @RequestBody long amount,
+                                                               @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("PATCH /async/point/{}/use - Using {} points for user with ID: {}", id, amount, id);
+        }
+        return asyncPointService.usePoint(UserPointDto.builder()
+                        .id(id)
+                        .amount(amount)
+                        .idempotencyKey(idempotencyKey)
+                        .build())
+                .thenApply(userPoint -> ResponseEntity.ok(UserPointDto.from(userPoint)));
+    }
+}
@@ -1,22 +1,52 @@
 package io.hhplus.tdd.point.controller;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.dto.PointHistorySummaryDto;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResultDto;
+import io.hhplus.tdd.point.dto.UserPointBalanceDto;
 import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
 import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.service.PointService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
 @RequestMapping("/point")
 public class PointController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final int EXPORT_FLUSH_INTERVAL = 256;
+    private static final int MAX_EXPORT_SIZE = 1000;
+    private static final long EXPORT_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final Object EXPORT_TIMEOUT_KEY = PointController.class.getName() + ".EXPORT_TIMEOUT";
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+
     private final PointService pointService;
 
     public PointController(PointService pointServiceImpl) {
@@ -29,61 +59,201 @@ public class PointController {
     @GetMapping("{id}")
     public ResponseEntity<UserPointDto> point(@PathVariable("id") long id) {
 
-        log.info("GET /point/{} - Retrieving point for user with ID: {}", id, id);
+        if (log.isDebugEnabled()) {
+            log.debug("GET /point/{} - Retrieving point for user with ID: {}", id, id);
+        }
         UserPoint userPoint = pointService.getPoint(UserPointDto.builder()
                 .id(id)
                 .build());
-        log.info("Retrieved point for user ID {}: {}", id, userPoint.getPoint());
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieved point for user ID {}: {}", id, userPoint.getPoint());
+        }
 
         return ResponseEntity.ok(UserPointDto.from(userPoint));
     }
 
+    /**
+     * 여러 유저의 포인트를 한 번에 조회하는 기능 (GET /point?ids=1,2,3)
+     * - 유저별 조회는 동시에 실행되며, 결과는 요청한 id 순서로 id/point/updateMillis 만 반환한다.
+     */
+    @GetMapping
+    public ResponseEntity<List<UserPointBalanceDto>> points(@RequestParam("ids") List<Long> ids) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("GET /point - Retrieving points for {} users", ids.size());
+        }
+        List<UserPoint> userPoints = pointService.getPoints(ids);
+
+        return ResponseEntity.ok(UserPointBalanceDto.from(userPoints));
+    }
+
     /**
      * 특정 유저의 포인트 충전/이용 내역 조회 기능
+     * - cursor : 이전 페이지 마지막 내역 id, limit : 최대 조회 건수 (기본 50, 최대 1000)
+     * - from / to : updateMillis 범위 (from 이상, to 미만), type : CHARGE / USE
      */
     @GetMapping("{id}/histories")
-    public ResponseEntity<List<PointHistoryDto>> history(@PathVariable("id") long userId) {
+    public ResponseEntity<List<PointHistoryDto>> history(@PathVariable("id") long userId,
+                                                         @RequestParam(value = "cursor", required = false) Long cursor,
+                                                         @RequestParam(value = "limit", required = false) Integer limit,
+                                                         @RequestParam(value = "from", required = false) Long from,
+                                                         @RequestParam(value = "to", required = false) Long to,
+                                                         @RequestParam(value = "type", required = false) TransactionType type) {
 
-        log.info("GET /point/{}/histories - Retrieving point histories for user with ID: {}", userId, userId);
-        List<PointHistoryDto> histories = pointService.getPointHistory(PointHistoryDto.builder()
-                        .userId(userId).build())
-                .stream()
-                .map(PointHistoryDto::from)
-                .collect(Collectors.toList());
-        log.info("Retrieved {} point history entries for user ID: {}", histories.size(), userId);
+        if (log.isDebugEnabled()) {
+            log.debug("GET /point/{}/histories - Retrieving point histories for user with ID: {}", userId, userId);
+        }
+        List<PointHistory> found = pointService.getPointHistory(PointHistorySearchDto.of(userId, cursor, limit, from, to, type));
+        List<PointHistoryDto> histories = PointHistoryDto.from(found);
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieved {} point history entries for user ID: {}", histories.size(), userId);
+        }
 
         return ResponseEntity.ok(histories);
     }
 
+    /**
+     * 특정 유저의 포인트 충전/이용 내역 집계 조회 기능
+     * - 충전/사용 합계와 건수, 첫/마지막 내역 시각을 내역 수와 무관하게 바로 반환한다.
+     */
+    @GetMapping("{id}/summary")
+    public ResponseEntity<PointHistorySummaryDto> summary(@PathVariable("id") long userId) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("GET /point/{}/summary - Retrieving point history summary for user with ID: {}", userId, userId);
+        }
+        PointHistorySummary summary = pointService.getPointHistorySummary(PointHistoryDto.builder()
+                .userId(userId)
+                .build());
+
+        return ResponseEntity.ok(PointHistorySummaryDto.from(summary));
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/이용 내역을 NDJSON 으로 내보내는 기능
+     * - 내역을 한 건씩 응답 스트림에 바로 쓰므로 내보내는 양과 무관하게 메모리 사용량이 일정하다.
+     * - 한 번에 MAX_EXPORT_SIZE 명까지 내보내며, 전역 비동기 제한 시간 대신 EXPORT_TIMEOUT_MILLIS 를 적용한다.
+     */
+    @GetMapping(value = "histories/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportHistories(@RequestParam("userIds") List<Long> userIds,
+                                                                 NativeWebRequest request) {
+
+        if (userIds.size() > MAX_EXPORT_SIZE) {
+            throw new IllegalArgumentException("한 번에 내보낼 수 있는 유저 수는 " + MAX_EXPORT_SIZE + "명 이하입니다.");
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("GET /point/histories/export - Exporting point histories for {} users", userIds.size());
+        }
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT_KEY, EXPORT_TIMEOUT);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+
+                int[] written = {0};
+                pointService.exportPointHistories(userIds, pointHistory -> {
+                    try {
+                        writeHistory(generator, pointHistory);
+                        if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeRaw('\n');
+                if (log.isDebugEnabled()) {
+                    log.debug("Exported {} point history entries for {} users", written[0], userIds.size());
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용을 한 번에 처리하는 기능
+     * - 유저별로 묶어 요청 순서대로 처리하며, 결과는 요청과 같은 순서로 건별 성공/실패 사유를 반환한다.
+     */
+    @PostMapping("batch")
+    public ResponseEntity<List<PointOperationResultDto>> batch(@RequestBody List<PointOperationDto> operations) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("POST /point/batch - Processing {} point operations", operations.size());
+        }
+        List<PointOperationResultDto> results = pointService.processBatch(operations);
+
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * 특정 유저의 포인트를 충전하는 기능
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 충전하지 않고 처음 결과를 반환한다.
      */
     @PatchMapping("{id}/charge")
-    public ResponseEntity<UserPointDto> charge(@PathVariable("id") long id, @RequestBody long amount) {
+    public ResponseEntity<UserPointDto> charge(@PathVariable("id") long id, @RequestBody long amount,
+                                               @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
 
-        log.info("PATCH /point/{}/charge - Charging {} points for user with ID: {}", id, amount, id);
+        if (log.isDebugEnabled()) {
+            log.debug("PATCH /point/{}/charge - Charging {} points for user with ID: {}", id, amount, id);
+        }
         UserPoint updatedUserPoint = pointService.chargePoint(UserPointDto.builder()
                 .id(id)
                 .amount(amount)
+                .idempotencyKey(idempotencyKey)
                 .build());
-        log.info("User ID {} now has {} points after charging {} points", id, updatedUserPoint.getPoint(), amount);
+        if (log.isDebugEnabled()) {
+            log.debug("User ID {} now has {} points after charging {} points", id, updatedUserPoint.getPoint(), amount);
+        }
 
         return ResponseEntity.ok(UserPointDto.from(updatedUserPoint));
     }
 
     /**
      * 특정 유저의 포인트를 사용하는 기능
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 사용하지 않고 처음 결과를 반환한다.
      */
     @PatchMapping("{id}/use")
-    public ResponseEntity<UserPointDto> use(@PathVariable("id") long id, @RequestBody long amount) {
+    public ResponseEntity<UserPointDto> use(@PathVariable("id") long id, @RequestBody long amount,
+                                            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
 
-        log.info("PATCH /point/{}/use - Using {} points for user with ID: {}", id, amount, id);
+        if (log.isDebugEnabled()) {
+            log.debug("PATCH /point/{}/use - Using {} points for user with ID: {}", id, amount, id);
+        }
         UserPoint updatedUserPoint = pointService.usePoint(UserPointDto.builder()
                 .id(id)
                 .amount(amount)
+                .idempotencyKey(idempotencyKey)
                 .build());
-        log.info("User ID {} now has {} points after using {} points", id, updatedUserPoint.getPoint(), amount);
+        if (log.isDebugEnabled()) {
+            log.debug("User ID {} now has {} points after using {} points", id, updatedUserPoint.getPoint(), amount);
+        }
 
         return ResponseEntity.ok(UserPointDto.from(updatedUserPoint));
     }
+
+    /**
+     * 스트리밍 응답의 비동기 처리가 시작되기 직전에 내보내기 전용 제한 시간을 설정한다.
+     */
+    private static final CallableProcessingInterceptor EXPORT_TIMEOUT = new CallableProcessingInterceptor() {
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            if (request instanceof AsyncWebRequest asyncWebRequest) {
+                asyncWebRequest.setTimeout(EXPORT_TIMEOUT_MILLIS);
+            }
+        }
+    };
+
+    private static void writeHistory(JsonGenerator generator, PointHistory pointHistory) throws IOException {
+
+        generator.writeStartObject();
+        generator.writeNumberField("id", pointHistory.id());
+        generator.writeNumberField("userId", pointHistory.userId());
+        generator.writeNumberField("amount", pointHistory.amount());
+        generator.writeStringField("type", pointHistory.type().name());
+        generator.writeNumberField("updateMilli", pointHistory.updateMillis());
+        generator.writeEndObject();
+    }
 }
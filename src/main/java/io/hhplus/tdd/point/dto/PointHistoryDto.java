@@ -7,6 +7,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Builder
 @NoArgsConstructor
@@ -31,4 +34,13 @@ public class PointHistoryDto {
                 .updateMilli(pointHistory.updateMillis())
                 .build();
     }
+
+    public static List<PointHistoryDto> from(List<PointHistory> pointHistories) {
+
+        List<PointHistoryDto> dtos = new ArrayList<>(pointHistories.size());
+        for (PointHistory pointHistory : pointHistories) {
+            dtos.add(from(pointHistory));
+        }
+        return dtos;
+    }
 }
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 포인트 내역 조회 조건
+ * - cursor : 이전 페이지의 마지막 내역 id (해당 id 이후부터 조회)
+ * - limit : 최대 조회 건수 (요청 파라미터가 없으면 DEFAULT_LIMIT, 최대 MAX_LIMIT)
+ * - from / to : updateMillis 범위 (from 이상, to 미만)
+ * - type : 충전/사용 구분 (null 이면 전체)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PointHistorySearchDto {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 1000;
+
+    private long userId;
+
+    @Builder.Default
+    private long cursor = 0L;
+
+    @Builder.Default
+    private int limit = Integer.MAX_VALUE;
+
+    @Builder.Default
+    private long from = Long.MIN_VALUE;
+
+    @Builder.Default
+    private long to = Long.MAX_VALUE;
+
+    private TransactionType type;
+
+    public static PointHistorySearchDto all(long userId) {
+        return PointHistorySearchDto.builder().userId(userId).build();
+    }
+
+    /**
+     * 요청 파라미터로 조회 조건을 만든다. null 인 값은 기본값을 사용하고, limit 이 없으면 DEFAULT_LIMIT 건만 조회한다.
+     */
+    public static PointHistorySearchDto of(long userId, Long cursor, Integer limit, Long from, Long to, TransactionType type) {
+
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+        }
+        if (limit != null && limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+
+        PointHistorySearchDtoBuilder condition = PointHistorySearchDto.builder()
+                .userId(userId)
+                .type(type);
+        condition.limit(limit != null ? limit : DEFAULT_LIMIT);
+        if (cursor != null) condition.cursor(cursor);
+        if (from != null) condition.from(from);
+        if (to != null) condition.to(to);
+
+        return condition.build();
+    }
+
+    public boolean matches(PointHistory pointHistory) {
+
+        return pointHistory.id() > cursor
+                && pointHistory.updateMillis() >= from
+                && pointHistory.updateMillis() < to
+                && (type == null || pointHistory.type() == type);
+    }
+}
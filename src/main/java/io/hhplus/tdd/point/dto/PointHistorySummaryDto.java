@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 포인트 내역 집계 응답 (충전/사용 합계와 건수, 첫/마지막 내역 시각)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointHistorySummaryDto {
+
+    private long userId;
+    private long totalCharged;
+    private long totalUsed;
+    private long chargeCount;
+    private long useCount;
+    private long firstUpdateMillis;
+    private long lastUpdateMillis;
+
+    public static PointHistorySummaryDto from(PointHistorySummary summary) {
+
+        if (summary == null) return null;
+
+        return PointHistorySummaryDto.builder()
+                .userId(summary.userId())
+                .totalCharged(summary.totalCharged())
+                .totalUsed(summary.totalUsed())
+                .chargeCount(summary.chargeCount())
+                .useCount(summary.useCount())
+                .firstUpdateMillis(summary.firstUpdateMillis())
+                .lastUpdateMillis(summary.lastUpdateMillis())
+                .build();
+    }
+}
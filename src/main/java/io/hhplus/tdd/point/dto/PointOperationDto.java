@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 처리 요청의 단건 포인트 충전/사용
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointOperationDto {
+
+    private long userId;
+    private TransactionType type;
+    private long amount;
+}
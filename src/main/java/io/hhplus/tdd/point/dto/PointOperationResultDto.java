@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.hhplus.tdd.point.entity.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 처리 단건 결과 (요청 순서와 같은 순서로 반환된다)
+ * - point : 해당 요청까지 반영된 잔액 (유저의 요청 묶음 전체가 실패해 잔액을 알 수 없으면 생략한다)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointOperationResultDto {
+
+    private long userId;
+    private TransactionType type;
+    private long amount;
+    private PointOperationStatus status;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long point;
+    private String message;
+
+    public static PointOperationResultDto success(PointOperationDto operation, long point) {
+
+        return PointOperationResultDto.builder()
+                .userId(operation.getUserId())
+                .type(operation.getType())
+                .amount(operation.getAmount())
+                .status(PointOperationStatus.SUCCESS)
+                .point(point)
+                .build();
+    }
+
+    public static PointOperationResultDto failure(PointOperationDto operation, RuntimeException e) {
+        return failure(operation, null, e);
+    }
+
+    public static PointOperationResultDto failure(PointOperationDto operation, Long point, RuntimeException e) {
+
+        return PointOperationResultDto.builder()
+                .userId(operation.getUserId())
+                .type(operation.getType())
+                .amount(operation.getAmount())
+                .status(PointOperationStatus.from(e))
+                .point(point)
+                .message(e.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import io.hhplus.tdd.point.exception.NegativeValueException;
+import io.hhplus.tdd.point.exception.PointLimitExceededException;
+
+/**
+ * 일괄 처리 단건 결과
+ * - SUCCESS : 처리 성공
+ * - INSUFFICIENT_POINT : 잔액 부족
+ * - POINT_LIMIT_EXCEEDED : 최대 포인트 한도 초과
+ * - NEGATIVE_VALUE : 음수 금액
+ * - FAILED : 그 외 오류
+ */
+public enum PointOperationStatus {
+    SUCCESS, INSUFFICIENT_POINT, POINT_LIMIT_EXCEEDED, NEGATIVE_VALUE, FAILED;
+
+    public static PointOperationStatus from(RuntimeException e) {
+
+        if (e instanceof InsufficientPointException) return INSUFFICIENT_POINT;
+        if (e instanceof PointLimitExceededException) return POINT_LIMIT_EXCEEDED;
+        if (e instanceof NegativeValueException) return NEGATIVE_VALUE;
+        return FAILED;
+    }
+}
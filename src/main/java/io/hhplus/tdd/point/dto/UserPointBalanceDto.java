@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 유저 조회 응답에 쓰는 잔액 정보 (id, point, updateMillis)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPointBalanceDto {
+
+    private long id;
+    private long point;
+    private long updateMillis;
+
+    public static UserPointBalanceDto from(UserPoint userPoint) {
+
+        if (userPoint == null) return null;
+
+        return UserPointBalanceDto.builder()
+                .id(userPoint.getId())
+                .point(userPoint.getPoint())
+                .updateMillis(userPoint.getUpdateMillis())
+                .build();
+    }
+
+    public static List<UserPointBalanceDto> from(List<UserPoint> userPoints) {
+
+        List<UserPointBalanceDto> dtos = new ArrayList<>(userPoints.size());
+        for (UserPoint userPoint : userPoints) {
+            dtos.add(from(userPoint));
+        }
+        return dtos;
+    }
+}
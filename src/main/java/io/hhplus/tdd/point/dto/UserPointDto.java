@@ -1,5 +1,6 @@
 package io.hhplus.tdd.point.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.hhplus.tdd.point.entity.UserPoint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,6 +18,10 @@ public class UserPointDto {
     private long updateMillis;
     private long amount;
 
+    // 충전/사용 요청의 Idempotency-Key 헤더 (응답에는 포함하지 않는다)
+    @JsonIgnore
+    private String idempotencyKey;
+
     public static UserPointDto from(UserPoint userPoint) {
 
         if (userPoint == null) {
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.entity;
+
+/**
+ * 유저별 포인트 내역 집계
+ * - totalCharged / totalUsed : 충전/사용 금액 합계
+ * - chargeCount / useCount : 충전/사용 건수
+ * - firstUpdateMillis / lastUpdateMillis : 가장 이른/늦은 내역 시각 (내역이 없으면 0)
+ * - lastHistoryId : 집계에 반영된 마지막 내역 id
+ */
+public record PointHistorySummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long chargeCount,
+        long useCount,
+        long firstUpdateMillis,
+        long lastUpdateMillis,
+        long lastHistoryId
+) {
+
+    public static PointHistorySummary empty(long userId) {
+        return new PointHistorySummary(userId, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    public long count() {
+        return chargeCount + useCount;
+    }
+
+    public long count(TransactionType type) {
+        return type == TransactionType.CHARGE ? chargeCount : useCount;
+    }
+
+    /**
+     * 내역 한 건을 더한 집계를 반환한다.
+     */
+    public PointHistorySummary plus(PointHistory pointHistory) {
+
+        boolean charge = pointHistory.type() == TransactionType.CHARGE;
+        long millis = pointHistory.updateMillis();
+        return new PointHistorySummary(
+                userId,
+                charge ? totalCharged + pointHistory.amount() : totalCharged,
+                charge ? totalUsed : totalUsed + pointHistory.amount(),
+                charge ? chargeCount + 1 : chargeCount,
+                charge ? useCount : useCount + 1,
+                count() == 0 ? millis : Math.min(firstUpdateMillis, millis),
+                count() == 0 ? millis : Math.max(lastUpdateMillis, millis),
+                Math.max(lastHistoryId, pointHistory.id()));
+    }
+}
@@ -3,14 +3,25 @@ package io.hhplus.tdd.point.entity;
 import io.hhplus.tdd.point.exception.InsufficientPointException;
 import io.hhplus.tdd.point.exception.PointLimitExceededException;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 @Getter
+@EqualsAndHashCode
 @AllArgsConstructor
 public class UserPoint {
     long id;
     long point;
     long updateMillis;
+    long version;
+
+    /**
+     * UserPointTable 은 version 을 알지 못하므로, 테이블이 만드는 UserPoint 는 version 0 으로 시작한다.
+     * version 은 UserPointRepository 가 관리한다.
+     */
+    public UserPoint(long id, long point, long updateMillis) {
+        this(id, point, updateMillis, 0L);
+    }
 
     public static UserPoint empty(long id) {
         return new UserPoint(id, 0, System.currentTimeMillis());
@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.exception;
+
+public class PointProcessingTimeoutException extends RuntimeException {
+    public PointProcessingTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.exception;
+
+public class PointVersionConflictException extends RuntimeException {
+    public PointVersionConflictException(String message) {
+        super(message);
+    }
+}
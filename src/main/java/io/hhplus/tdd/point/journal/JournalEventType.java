@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+
+/**
+ * 저널 이벤트 종류
+ * - JOIN : 유저 생성 (value = 초기 point)
+ * - BALANCE : 잔액 변경 (value = 변경 후 point)
+ * - CHARGE / USE : 포인트 내역 (value = amount)
+ */
+public enum JournalEventType {
+    JOIN, BALANCE, CHARGE, USE;
+
+    public static JournalEventType of(TransactionType type) {
+        return switch (type) {
+            case CHARGE -> CHARGE;
+            case USE -> USE;
+        };
+    }
+
+    public boolean isHistory() {
+        return this == CHARGE || this == USE;
+    }
+
+    public TransactionType transactionType() {
+        return switch (this) {
+            case CHARGE -> TransactionType.CHARGE;
+            case USE -> TransactionType.USE;
+            default -> throw new IllegalStateException(this + " 은 포인트 내역 이벤트가 아닙니다.");
+        };
+    }
+}
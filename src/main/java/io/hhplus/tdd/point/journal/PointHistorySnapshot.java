@@ -0,0 +1,152 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 내역 스냅샷 파일 형식
+ * - header : magic(int) | formatVersion(int) | journalPosition(long) | lastHistoryId(long)
+ * - entry : 1(byte) | id(long) | userId(long) | amount(long) | type(byte) | updateMillis(long)
+ * - trailer : 0(byte) | entry 수(long) | 앞선 모든 byte 의 CRC32C(int)
+ * journalPosition 은 스냅샷에 모두 반영된 저널 위치이고, lastHistoryId 는 그때까지 발급한 마지막 내역 id 이다.
+ * 복구 시 스냅샷의 내역으로 인덱스와 집계를 채운 뒤, 저널은 journalPosition 뒤의 기록만 재생하고 id 는 lastHistoryId 다음부터 발급한다.
+ * entry 는 인덱스를 유저별 id 오름차순으로 옮긴 것이며, 잔액 변경 기록은 담지 않는다. (잔액은 PointSnapshot)
+ * 임시 파일에 쓴 뒤 이름을 바꾸므로 쓰는 도중 종료되어도 이전 스냅샷은 그대로 남는다.
+ */
+public final class PointHistorySnapshot {
+
+    private static final int MAGIC = 0x50485350; // "PHSP"
+    private static final int FORMAT_VERSION = 1;
+    private static final byte ENTRY = 1;
+    private static final byte END = 0;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private PointHistorySnapshot() {
+    }
+
+    public record Header(long journalPosition, long lastHistoryId) {
+    }
+
+    @FunctionalInterface
+    public interface EntryVisitor {
+
+        void visit(long id, long userId, long amount, TransactionType type, long updateMillis);
+    }
+
+    /**
+     * 스냅샷을 읽어 entry 를 순서대로 visitor 에 전달한다.
+     * checksum 은 끝까지 읽은 뒤 확인하므로, 예외가 나면 그때까지 전달받은 값은 버려야 한다.
+     */
+    public static Header read(Path file, EntryVisitor visitor) throws IOException {
+
+        CRC32C crc = new CRC32C();
+        try (InputStream in = Files.newInputStream(file);
+             CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(in, 1 << 16), crc);
+             DataInputStream data = new DataInputStream(checked)) {
+
+            if (data.readInt() != MAGIC || data.readInt() != FORMAT_VERSION) {
+                throw new IOException("포인트 내역 스냅샷 형식이 아닙니다: " + file);
+            }
+            Header header = new Header(data.readLong(), data.readLong());
+
+            long count = 0L;
+            while (data.readByte() == ENTRY) {
+                long id = data.readLong();
+                long userId = data.readLong();
+                long amount = data.readLong();
+                int type = data.readByte();
+                long updateMillis = data.readLong();
+                if (type < 0 || type >= TYPES.length) {
+                    throw new IOException("포인트 내역 스냅샷이 손상되었습니다: " + file);
+                }
+                visitor.visit(id, userId, amount, TYPES[type], updateMillis);
+                count++;
+            }
+
+            long expectedCount = data.readLong();
+            int expectedChecksum = (int) crc.getValue();
+            if (data.readInt() != expectedChecksum || expectedCount != count) {
+                throw new IOException("포인트 내역 스냅샷이 손상되었습니다: " + file);
+            }
+            return header;
+        }
+    }
+
+    /**
+     * 임시 파일에 스냅샷을 쓰고, commit 하면 fsync 후 대상 파일로 교체한다. commit 하지 않고 닫으면 임시 파일을 지운다.
+     */
+    public static final class Writer implements Closeable {
+
+        private final Path file;
+        private final Path temporary;
+        private final FileOutputStream out;
+        private final CheckedOutputStream checked;
+        private final DataOutputStream data;
+        private long count;
+        private boolean committed;
+
+        public Writer(Path file, long journalPosition, long lastHistoryId) throws IOException {
+            this.file = file;
+            this.temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            this.out = new FileOutputStream(temporary.toFile());
+            this.checked = new CheckedOutputStream(new BufferedOutputStream(out, 1 << 16), new CRC32C());
+            this.data = new DataOutputStream(checked);
+
+            data.writeInt(MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            data.writeLong(journalPosition);
+            data.writeLong(lastHistoryId);
+        }
+
+        public void write(long id, long userId, long amount, TransactionType type, long updateMillis) throws IOException {
+
+            data.writeByte(ENTRY);
+            data.writeLong(id);
+            data.writeLong(userId);
+            data.writeLong(amount);
+            data.writeByte(type.ordinal());
+            data.writeLong(updateMillis);
+            count++;
+        }
+
+        public void commit() throws IOException {
+
+            data.writeByte(END);
+            data.writeLong(count);
+            data.writeInt((int) checked.getChecksum().getValue());
+            data.flush();
+            out.getFD().sync();
+            data.close();
+
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            if (!committed) {
+                data.close();
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+}
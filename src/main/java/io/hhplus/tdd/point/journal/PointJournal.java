@@ -0,0 +1,390 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.config.PointJournalProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * 포인트 변경 이벤트의 append-only 바이너리 저널
+ * - 레코드는 32 byte 고정 길이이며, 파일을 segmentSize 단위로 memory-map 해서 순서대로 이어 쓴다.
+ * - 레코드 구성 : checksum(int) | type(byte) | reserved(3) | userId(long) | value(long) | updateMillis(long)
+ * - fsync 는 전용 스레드가 fsyncInterval 마다 그동안 쌓인 기록을 한 번에 반영한다 (group commit).
+ * - fsync 를 기다리는 요청은 fsyncTimeout 을 넘기거나, fsync 가 실패했거나, 저널이 닫히면 예외로 끝난다.
+ * - 다시 열 때는 checksum 이 맞는 마지막 레코드까지를 유효한 기록으로 보고 그 뒤부터 이어 쓴다.
+ */
+@Slf4j
+public class PointJournal implements Closeable {
+
+    public static final int RECORD_SIZE = 32;
+
+    private static final int TYPE_OFFSET = 4;
+    private static final int USER_ID_OFFSET = 8;
+    private static final int VALUE_OFFSET = 16;
+    private static final int UPDATE_MILLIS_OFFSET = 24;
+    private static final JournalEventType[] TYPES = JournalEventType.values();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int segmentSize;
+    private final List<MappedByteBuffer> segments = new CopyOnWriteArrayList<>();
+
+    // append 는 appendLock 으로 직렬화하고, 레코드는 재사용하는 버퍼에 만든 뒤 한 번에 복사한다.
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32C checksum = new CRC32C();
+    private volatile long position;
+
+    private final ReentrantLock forceLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private volatile long syncedPosition;
+    // 마지막 fsync 실패, 다음 fsync 가 성공하면 지운다.
+    private volatile RuntimeException syncFailure;
+
+    private final boolean awaitFsync;
+    private final long fsyncTimeoutNanos;
+    private final long fsyncIntervalNanos;
+    private final Timer fsyncTimer;
+    private final Thread syncer;
+    private volatile boolean running = true;
+    // 마지막 fsync 까지 끝나 더 이상 반영되지 않는 상태
+    private volatile boolean closed;
+
+    public PointJournal(Path file, PointJournalProperties properties, MeterRegistry meterRegistry) throws IOException {
+
+        long segmentBytes = properties.getSegmentSize().toBytes();
+        if (segmentBytes <= 0 || segmentBytes > Integer.MAX_VALUE || segmentBytes % RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("segmentSize는 " + RECORD_SIZE + " byte 의 배수이고 2GB 보다 작아야 합니다.");
+        }
+
+        if (!properties.getFsyncInterval().isPositive()) {
+            throw new IllegalArgumentException("fsyncInterval은 0 보다 커야 합니다.");
+        }
+
+        this.file = file;
+        this.segmentSize = (int) segmentBytes;
+        this.awaitFsync = properties.isAwaitFsync();
+        this.fsyncIntervalNanos = properties.getFsyncInterval().toNanos();
+        this.fsyncTimeoutNanos = properties.getFsyncTimeout().toNanos();
+        this.fsyncTimer = meterRegistry.timer("point.journal.fsync");
+
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.position = recover();
+        this.syncedPosition = position;
+
+        this.syncer = new Thread(this::syncLoop, "point-journal-sync");
+        this.syncer.setDaemon(true);
+        this.syncer.start();
+
+        log.info("Point journal opened at {} with {} records", file, position / RECORD_SIZE);
+    }
+
+    /**
+     * 레코드 하나를 저널 끝에 쓰고, 쓴 뒤의 저널 위치를 반환한다.
+     * 반환된 위치는 awaitDurable 로 디스크 반영을 기다릴 때 사용한다.
+     */
+    public long append(JournalEventType type, long userId, long value, long updateMillis) {
+
+        appendLock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("포인트 저널이 닫혔습니다.");
+            }
+
+            record.put(TYPE_OFFSET, (byte) (type.ordinal() + 1))
+                    .putLong(USER_ID_OFFSET, userId)
+                    .putLong(VALUE_OFFSET, value)
+                    .putLong(UPDATE_MILLIS_OFFSET, updateMillis);
+            checksum.reset();
+            checksum.update(record.array(), TYPE_OFFSET, RECORD_SIZE - TYPE_OFFSET);
+            record.putInt(0, (int) checksum.getValue());
+
+            long current = position;
+            segment(current).put(offset(current), record.array());
+
+            // 레코드를 모두 쓴 뒤 위치를 공개해야 재생/fsync 스레드가 채워지지 않은 레코드를 읽지 않는다.
+            position = current + RECORD_SIZE;
+            return position;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * awaitFsync 설정이면 position 까지의 기록이 디스크에 반영될 때까지 최대 fsyncTimeout 동안 기다린다.
+     * fsync 가 실패했거나, 저널이 닫혔거나, 시간 안에 반영되지 않으면 IllegalStateException 이 발생한다.
+     */
+    public void awaitDurable(long position) {
+
+        if (!awaitFsync || syncedPosition >= position) {
+            return;
+        }
+
+        syncLock.lock();
+        try {
+            long remaining = fsyncTimeoutNanos;
+            while (syncedPosition < position) {
+                RuntimeException failure = syncFailure;
+                if (failure != null) {
+                    throw new IllegalStateException("포인트 저널을 디스크에 반영하지 못했습니다.", failure);
+                }
+                if (closed) {
+                    throw new IllegalStateException("포인트 저널이 닫혀 디스크 반영을 확인할 수 없습니다.");
+                }
+                if (remaining <= 0L) {
+                    throw new IllegalStateException("포인트 저널 디스크 반영이 " + TimeUnit.NANOSECONDS.toMillis(fsyncTimeoutNanos) + "ms 안에 끝나지 않았습니다.");
+                }
+                remaining = synced.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 저널 반영 대기가 중단되었습니다.", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 저널 처음부터 지금까지 쓴 기록을 순서대로 visitor 에 전달한다.
+     */
+    public long replay(Visitor visitor) {
+        return replay(0L, visitor);
+    }
+
+    /**
+     * fromPosition 부터 지금까지 쓴 기록을 순서대로 visitor 에 전달하고, 마지막으로 읽은 위치를 반환한다.
+     */
+    public long replay(long fromPosition, Visitor visitor) {
+
+        if (fromPosition < 0 || fromPosition % RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("잘못된 저널 위치입니다: " + fromPosition);
+        }
+
+        long end = position;
+        for (long current = fromPosition; current < end; current += RECORD_SIZE) {
+            MappedByteBuffer segment = segments.get(index(current));
+            int offset = offset(current);
+            visitor.visit(current + RECORD_SIZE,
+                    TYPES[segment.get(offset + TYPE_OFFSET) - 1],
+                    segment.getLong(offset + USER_ID_OFFSET),
+                    segment.getLong(offset + VALUE_OFFSET),
+                    segment.getLong(offset + UPDATE_MILLIS_OFFSET));
+        }
+        return end;
+    }
+
+    /**
+     * 지금까지 쓴 기록의 끝 위치
+     */
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        appendLock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            appendLock.unlock();
+        }
+
+        LockSupport.unpark(syncer);
+        try {
+            syncer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            sync();
+        } finally {
+            // 마지막 fsync 가 실패해도 기다리는 요청이 남지 않도록 깨운다.
+            closed = true;
+            signalWaiters();
+            channel.close();
+        }
+        log.info("Point journal closed at {} with {} records", file, position / RECORD_SIZE);
+    }
+
+    private void syncLoop() {
+
+        while (running) {
+            LockSupport.parkNanos(fsyncIntervalNanos);
+            try {
+                sync();
+            } catch (RuntimeException e) {
+                log.error("Failed to fsync point journal at {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 쓴 기록을 주기를 기다리지 않고 바로 디스크에 반영한다.
+     */
+    public void flush() {
+        sync();
+    }
+
+    /**
+     * 마지막 fsync 이후 쓴 구간만 디스크에 반영하고 기다리는 요청을 깨운다.
+     */
+    private void sync() {
+
+        forceLock.lock();
+        try {
+            long target = position;
+            long from = syncedPosition;
+            if (target <= from) {
+                return;
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                for (int index = index(from); index <= index(target - 1); index++) {
+                    long segmentStart = (long) index * segmentSize;
+                    int start = (int) (Math.max(from, segmentStart) - segmentStart);
+                    int end = (int) (Math.min(target, segmentStart + segmentSize) - segmentStart);
+                    segments.get(index).force(start, end - start);
+                }
+            } catch (RuntimeException e) {
+                syncFailure = e;
+                signalWaiters();
+                throw e;
+            }
+            fsyncTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            publishSynced(target);
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    private void publishSynced(long target) {
+
+        syncLock.lock();
+        try {
+            syncedPosition = target;
+            syncFailure = null;
+            synced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void signalWaiters() {
+
+        syncLock.lock();
+        try {
+            synced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * checksum 이 맞는 마지막 레코드 뒤를 저널의 끝으로 보고, 그 뒤에 남은 기록은 지운다.
+     * 남겨두면 이어 쓴 기록 뒤에서 이전 기록이 다시 읽힐 수 있다.
+     */
+    private long recover() throws IOException {
+
+        long fileSize = channel.size();
+        byte[] payload = new byte[RECORD_SIZE - TYPE_OFFSET];
+        CRC32C crc = new CRC32C();
+
+        long end = 0L;
+        while (end + RECORD_SIZE <= fileSize) {
+            MappedByteBuffer segment = segment(end);
+            int offset = offset(end);
+
+            byte type = segment.get(offset + TYPE_OFFSET);
+            if (type == 0) {
+                break;
+            }
+            segment.get(offset + TYPE_OFFSET, payload);
+            crc.reset();
+            crc.update(payload);
+            if (type < 0 || type > TYPES.length || (int) crc.getValue() != segment.getInt(offset)) {
+                log.warn("Point journal {} has a torn record at position {}, ignoring the rest", file, end);
+                break;
+            }
+            end += RECORD_SIZE;
+        }
+
+        if (index(end) < segments.size()) {
+            clearTail(segments.get(index(end)), offset(end));
+        }
+        long mappedSize = (long) segments.size() * segmentSize;
+        if (fileSize > mappedSize) {
+            channel.truncate(mappedSize);
+        }
+        return end;
+    }
+
+    private static void clearTail(MappedByteBuffer segment, int offset) {
+
+        for (int i = offset; i < segment.capacity(); i += Long.BYTES) {
+            if (segment.getLong(i) != 0L) {
+                segment.putLong(i, 0L);
+            }
+        }
+    }
+
+    /**
+     * position 이 속한 세그먼트를 반환하며, 아직 map 하지 않은 구간이면 이어서 map 한다 (파일도 함께 늘어난다).
+     */
+    private MappedByteBuffer segment(long position) throws IOException {
+
+        int index = index(position);
+        while (segments.size() <= index) {
+            long start = (long) segments.size() * segmentSize;
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE, start, segmentSize));
+        }
+        return segments.get(index);
+    }
+
+    private int index(long position) {
+        return (int) (position / segmentSize);
+    }
+
+    private int offset(long position) {
+        return (int) (position % segmentSize);
+    }
+
+    /**
+     * position 은 해당 레코드 바로 뒤의 저널 위치로, append 가 반환하는 값과 같다.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        void visit(long position, JournalEventType type, long userId, long value, long updateMillis);
+    }
+}
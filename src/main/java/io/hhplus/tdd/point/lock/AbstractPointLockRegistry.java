@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.lock;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * lock 획득 시 경합 여부를 집계하는 공통 구현
+ * - MeterRegistry 에 바인딩되면 lock 대기 시간(point.lock.wait)과 점유 시간(point.lock.hold)도 기록한다.
+ */
+public abstract class AbstractPointLockRegistry implements PointLockRegistry, MeterBinder {
+
+    private final LongAdder contention = new LongAdder();
+
+    private volatile Timer waitTimer;
+    private volatile Timer holdTimer;
+
+    @Override
+    public long contentionCount() {
+        return contention.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("point.lock.live", this, PointLockRegistry::liveLockCount)
+                .description("메모리에 유지되고 있는 lock 수")
+                .register(registry);
+        FunctionCounter.builder("point.lock.contention", this, PointLockRegistry::contentionCount)
+                .description("lock 을 바로 얻지 못하고 대기한 횟수")
+                .register(registry);
+
+        waitTimer = Timer.builder("point.lock.wait")
+                .description("lock 획득까지 대기한 시간")
+                .register(registry);
+        holdTimer = Timer.builder("point.lock.hold")
+                .description("lock 획득부터 반납까지 점유한 시간")
+                .register(registry);
+    }
+
+    protected void lock(PointLock lock) {
+
+        long startedAt = System.nanoTime();
+        acquire(lock);
+        lock.lockedAt = System.nanoTime();
+
+        Timer timer = waitTimer;
+        if (timer != null) {
+            timer.record(lock.lockedAt - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    protected void unlock(Lock lock) {
+
+        Timer timer = holdTimer;
+        if (timer != null && lock instanceof PointLock pointLock) {
+            timer.record(System.nanoTime() - pointLock.lockedAt, TimeUnit.NANOSECONDS);
+        }
+        lock.unlock();
+    }
+
+    private void acquire(PointLock lock) {
+
+        // 시간 제한 tryLock 은 공정 lock 의 대기 순서를 지키므로, 바로 얻지 못한 경우만 경합으로 집계한다.
+        try {
+            if (lock.tryLock(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        contention.increment();
+        lock.lock();
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 점유 시작 시각을 함께 기록하는 ReentrantLock
+ * - lockedAt 은 lock 을 점유한 스레드만 쓰고 읽으므로 별도 동기화가 필요 없다.
+ */
+class PointLock extends ReentrantLock {
+
+    long lockedAt;
+
+    PointLock(boolean fair) {
+        super(fair);
+    }
+}
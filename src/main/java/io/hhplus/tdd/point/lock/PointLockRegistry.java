@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * userId 별 lock 을 발급하는 레지스트리
+ * - acquire 는 lock 을 획득한 상태로 반환하고, 사용 후 반드시 release 로 반납해야 한다.
+ * - virtual thread 가 lock 을 잡은 채 테이블 I/O 로 대기해도 carrier thread 가 묶이지 않도록
+ *   구현체는 synchronized 대신 ReentrantLock 을 사용한다.
+ */
+public interface PointLockRegistry {
+
+    public Lock acquire(long userId);
+
+    public void release(long userId, Lock lock);
+
+    /**
+     * 현재 메모리에 유지되고 있는 lock 수
+     */
+    public int liveLockCount();
+
+    /**
+     * 다른 스레드가 lock 을 점유하고 있어 대기해야 했던 횟수
+     */
+    public long contentionCount();
+}
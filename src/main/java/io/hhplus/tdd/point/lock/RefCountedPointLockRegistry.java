@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.collection.ConcurrentLongMap;
+import io.hhplus.tdd.point.config.PointLockProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 유저별로 lock 을 두되, 획득/대기 중인 스레드 수를 세어 아무도 사용하지 않으면 제거하는 레지스트리
+ * - 유저 수가 늘어도 동시에 사용 중인 유저 수만큼만 lock 이 유지된다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.lock", name = "registry", havingValue = "ref-counted", matchIfMissing = true)
+public class RefCountedPointLockRegistry extends AbstractPointLockRegistry {
+
+    // 해제 시 참조 수를 줄이고, 0 이 되면 제거한다.
+    private static final ConcurrentLongMap.LongObjFunction<RefCountedLock> RELEASE =
+            (id, current) -> --current.references == 0 ? null : current;
+
+    private final ConcurrentLongMap<RefCountedLock> locks = new ConcurrentLongMap<>();
+
+    // 획득 시 lock 이 없으면 만들고 참조 수를 늘린다. 호출마다 람다를 만들지 않도록 필드로 둔다.
+    private final ConcurrentLongMap.LongObjFunction<RefCountedLock> retain;
+
+    public RefCountedPointLockRegistry(PointLockProperties properties) {
+
+        boolean fair = properties.isFair();
+        this.retain = (id, current) -> {
+            RefCountedLock refCounted = current == null ? new RefCountedLock(fair) : current;
+            refCounted.references++;
+            return refCounted;
+        };
+    }
+
+    @Override
+    public Lock acquire(long userId) {
+
+        // 참조 수 변경은 compute 안에서만 일어나므로 제거와 획득이 엇갈리지 않는다.
+        RefCountedLock entry = locks.compute(userId, retain);
+
+        lock(entry.lock);
+        return entry.lock;
+    }
+
+    @Override
+    public void release(long userId, Lock lock) {
+
+        unlock(lock);
+        locks.computeIfPresent(userId, RELEASE);
+    }
+
+    @Override
+    public int liveLockCount() {
+        return locks.size();
+    }
+
+    private static final class RefCountedLock {
+
+        private final PointLock lock;
+        private int references;
+
+        private RefCountedLock(boolean fair) {
+            this.lock = new PointLock(fair);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.config.PointLockProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 고정 개수의 lock 을 userId 해시로 나눠 쓰는 레지스트리
+ * - 유저 수와 무관하게 lock 수가 일정하고, 해시가 겹치는 유저끼리는 같은 lock 을 공유한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.lock", name = "registry", havingValue = "striped")
+public class StripedPointLockRegistry extends AbstractPointLockRegistry {
+
+    private final PointLock[] stripes;
+    private final int mask;
+
+    public StripedPointLockRegistry(PointLockProperties properties) {
+
+        // 해시를 mask 로 나누기 위해 stripe 수는 2의 거듭제곱으로 올린다.
+        int stripeCount = properties.getStripes();
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new PointLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new PointLock(properties.isFair());
+        }
+    }
+
+    @Override
+    public Lock acquire(long userId) {
+
+        PointLock lock = stripes[index(userId)];
+        lock(lock);
+        return lock;
+    }
+
+    @Override
+    public void release(long userId, Lock lock) {
+        unlock(lock);
+    }
+
+    @Override
+    public int liveLockCount() {
+        return stripes.length;
+    }
+
+    private int index(long userId) {
+
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
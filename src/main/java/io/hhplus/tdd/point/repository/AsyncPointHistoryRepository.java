@@ -0,0 +1,283 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.collection.ConcurrentLongMap;
+import io.hhplus.tdd.point.config.HistoryPipelineProperties;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * PointHistory 비동기 저장 파이프라인
+ * - create 는 bounded queue 에 적재만 하고 반환하며, 큐가 가득 차면 빈 자리가 생길 때까지 대기한다.
+ * - 전용 writer 스레드가 큐 순서대로 묶어서 delegate 에 저장하므로 유저별 내역 순서가 유지된다.
+ * - 아직 저장되지 않은 내역도 selectAllByUserId 결과와 집계에 포함된다.
+ * - 저장에 실패한 내역은 버리지 않고, 뒤의 내역을 멈춘 채 성공할 때까지 다시 저장한다. (큐가 차면 요청 스레드가 대기한다)
+ * <p>
+ * PointHistoryTable 은 insert 순서대로 1부터 id 를 발급하므로, 적재 시점에 같은 순서로 id 를 미리 발급한다.
+ * 저장된 id 가 미리 발급한 id 와 다르면 저장/대기 내역의 id 비교가 성립하지 않으므로 파이프라인을 멈춘다.
+ * 멈춘 뒤에는 create 가 실패하고, 저장하지 못한 내역은 deadLetters 로 남겨 error 로그로 기록한다.
+ */
+@Slf4j
+public class AsyncPointHistoryRepository implements PointHistoryRepository, DisposableBean {
+
+    private final PointHistoryRepository delegate;
+    private final int batchSize;
+    private final long retryBackoffMillis;
+    private final long maxRetryBackoffMillis;
+
+    private final BlockingQueue<PointHistory> queue;
+    private final ConcurrentLongMap<Queue<PointHistory>> pendingByUser = new ConcurrentLongMap<>();
+    private final ReentrantLock enqueueLock = new ReentrantLock();
+    private final List<PointHistory> deadLetters = new CopyOnWriteArrayList<>();
+    private final Thread writer;
+
+    private long sequence = 1;
+    private volatile boolean running = true;
+
+    public AsyncPointHistoryRepository(PointHistoryRepository delegate, HistoryPipelineProperties properties) {
+        this.delegate = delegate;
+        this.batchSize = properties.getBatchSize();
+        this.retryBackoffMillis = Math.max(1L, properties.getRetryBackoff().toMillis());
+        this.maxRetryBackoffMillis = Math.max(retryBackoffMillis, properties.getMaxRetryBackoff().toMillis());
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        this.writer = new Thread(this::drainLoop, "point-history-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public PointHistory create(long userId, long amount, TransactionType type, long updateMillis) {
+
+        try {
+            enqueueLock.lockInterruptibly();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("PointHistory 저장 요청이 중단되었습니다.", e);
+        }
+
+        try {
+            if (!running) {
+                throw new IllegalStateException("PointHistory 저장 파이프라인이 종료되었습니다.");
+            }
+            PointHistory pointHistory = new PointHistory(sequence, userId, amount, type, updateMillis);
+            pendingByUser.compute(userId, (k, pending) -> {
+                Queue<PointHistory> queued = pending == null ? new ConcurrentLinkedQueue<>() : pending;
+                queued.add(pointHistory);
+                return queued;
+            });
+
+            try {
+                queue.put(pointHistory);
+            } catch (InterruptedException e) {
+                removePending(pointHistory);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("PointHistory 저장 요청이 중단되었습니다.", e);
+            }
+
+            sequence++;
+            return pointHistory;
+        } finally {
+            enqueueLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+
+        // 저장 대기 내역을 먼저 읽어야 그 사이 저장이 끝난 내역을 놓치지 않는다.
+        Queue<PointHistory> pending = pendingByUser.get(userId);
+        List<PointHistory> pendingSnapshot = pending == null ? List.of() : new ArrayList<>(pending);
+
+        List<PointHistory> persisted = delegate.selectAllByUserId(userId);
+        if (pendingSnapshot.isEmpty()) {
+            return persisted;
+        }
+
+        long lastPersistedId = persisted.isEmpty() ? 0L : persisted.get(persisted.size() - 1).id();
+        List<PointHistory> histories = new ArrayList<>(persisted.size() + pendingSnapshot.size());
+        histories.addAll(persisted);
+        for (PointHistory pointHistory : pendingSnapshot) {
+            if (pointHistory.id() > lastPersistedId) {
+                histories.add(pointHistory);
+            }
+        }
+        return histories;
+    }
+
+    @Override
+    public List<PointHistory> selectByUserId(long userId, PointHistorySearchDto condition) {
+
+        Queue<PointHistory> pending = pendingByUser.get(userId);
+        List<PointHistory> pendingSnapshot = pending == null ? List.of() : new ArrayList<>(pending);
+
+        List<PointHistory> persisted = delegate.selectByUserId(userId, condition);
+        if (pendingSnapshot.isEmpty() || persisted.size() >= condition.getLimit()) {
+            return persisted;
+        }
+
+        // 저장된 내역으로 페이지가 채워지지 않았다면, 이후 id 의 대기 내역으로 나머지를 채운다.
+        long lastId = persisted.isEmpty() ? condition.getCursor() : persisted.get(persisted.size() - 1).id();
+        List<PointHistory> histories = new ArrayList<>(persisted);
+        for (PointHistory pointHistory : pendingSnapshot) {
+            if (histories.size() >= condition.getLimit()) {
+                break;
+            }
+            if (pointHistory.id() > lastId && condition.matches(pointHistory)) {
+                histories.add(pointHistory);
+            }
+        }
+        return histories;
+    }
+
+    @Override
+    public void forEachByUserId(long userId, Consumer<PointHistory> action) {
+
+        Queue<PointHistory> pending = pendingByUser.get(userId);
+        List<PointHistory> pendingSnapshot = pending == null ? List.of() : new ArrayList<>(pending);
+
+        AtomicLong lastPersistedId = new AtomicLong();
+        delegate.forEachByUserId(userId, pointHistory -> {
+            lastPersistedId.set(pointHistory.id());
+            action.accept(pointHistory);
+        });
+
+        for (PointHistory pointHistory : pendingSnapshot) {
+            if (pointHistory.id() > lastPersistedId.get()) {
+                action.accept(pointHistory);
+            }
+        }
+    }
+
+    /**
+     * 저장된 내역의 집계에 아직 저장되지 않은 내역만 더한다. 대기 내역은 유저별로 많지 않으므로 비용은 일정하다.
+     */
+    @Override
+    public PointHistorySummary selectSummaryByUserId(long userId) {
+
+        Queue<PointHistory> pending = pendingByUser.get(userId);
+        List<PointHistory> pendingSnapshot = pending == null ? List.of() : new ArrayList<>(pending);
+
+        PointHistorySummary summary = delegate.selectSummaryByUserId(userId);
+        long lastPersistedId = summary.lastHistoryId();
+        for (PointHistory pointHistory : pendingSnapshot) {
+            if (pointHistory.id() > lastPersistedId) {
+                summary = summary.plus(pointHistory);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * 현재 저장 대기 중인 내역 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 파이프라인이 멈춰 저장하지 못한 내역
+     */
+    public List<PointHistory> deadLetters() {
+        return List.copyOf(deadLetters);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        log.info("PointHistory pipeline stopped, {} entries left unpersisted", deadLetters.size() + queue.size());
+    }
+
+    private void drainLoop() {
+
+        Deque<PointHistory> batch = new ArrayDeque<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                PointHistory first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                while (!batch.isEmpty()) {
+                    PointHistory pending = batch.peekFirst();
+                    PointHistory persisted = persist(pending);
+                    batch.pollFirst();
+                    if (persisted.id() != pending.id()) {
+                        throw new IllegalStateException("PointHistory id 가 어긋났습니다. expected: " + pending.id() + ", persisted: " + persisted.id());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("PointHistory pipeline halted", e);
+        } finally {
+            running = false;
+            // 적재 중인 요청이 끝나기를 기다린 뒤 남은 내역을 모두 꺼낸다. (먼저 비워야 put 에서 대기 중인 요청이 끝난다)
+            queue.drainTo(batch);
+            enqueueLock.lock();
+            try {
+                queue.drainTo(batch);
+            } finally {
+                enqueueLock.unlock();
+            }
+            for (PointHistory pointHistory : batch) {
+                deadLetters.add(pointHistory);
+                log.error("Unpersisted PointHistory: {}", pointHistory);
+            }
+        }
+    }
+
+    /**
+     * 성공할 때까지 다시 저장한다. 종료 중에 실패하면 예외를 던져 파이프라인을 멈춘다.
+     */
+    private PointHistory persist(PointHistory pending) throws InterruptedException {
+
+        long backoffMillis = retryBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            PointHistory persisted;
+            try {
+                persisted = delegate.create(pending.userId(), pending.amount(), pending.type(), pending.updateMillis());
+            } catch (RuntimeException e) {
+                if (!running) {
+                    throw new IllegalStateException("종료 중 PointHistory 저장에 실패했습니다. id: " + pending.id(), e);
+                }
+                log.warn("Failed to persist PointHistory with ID: {} (attempt {}), retrying in {} ms", pending.id(), attempt, backoffMillis, e);
+                TimeUnit.MILLISECONDS.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, maxRetryBackoffMillis);
+                continue;
+            }
+
+            removePending(pending);
+            return persisted;
+        }
+    }
+
+    private void removePending(PointHistory pointHistory) {
+
+        pendingByUser.computeIfPresent(pointHistory.userId(), (userId, pending) -> {
+            pending.remove(pointHistory);
+            return pending.isEmpty() ? null : pending;
+        });
+    }
+}
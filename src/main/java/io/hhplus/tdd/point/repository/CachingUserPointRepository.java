@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.repository;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.hhplus.tdd.point.config.UserPointCacheProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * UserPointRepository 앞단의 read-through 캐시
+ * - selectById / selectByIds 는 캐시에 없을 때만 delegate 에서 읽고, 저장은 delegate 반영 후 캐시를 갱신한다.
+ * - 같은 유저의 조회 로드와 저장은 캐시 안에서 순서가 정해지고, version 이 더 큰 값만 남기므로 오래된 값이 덮어쓰지 않는다.
+ * - version 충돌이 나면 캐시 값이 오래된 것이므로 제거해 다음 조회가 delegate 에서 다시 읽도록 한다.
+ * - maxStaleness 가 설정되면 만료된 값을 그대로 응답하면서 백그라운드에서 다시 읽는다.
+ * - 적중/실패/제거 수는 cache.* 메트릭(cache=user-point)으로 노출된다.
+ */
+public class CachingUserPointRepository implements UserPointRepository {
+
+    private final UserPointRepository delegate;
+    private final LoadingCache<Long, UserPoint> cache;
+
+    public CachingUserPointRepository(UserPointRepository delegate, UserPointCacheProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .recordStats();
+
+        if (properties.getMaxStaleness().isPositive()) {
+            // 만료 시점(expireAfterWrite)이 지나면 기존 값을 응답하면서 다시 읽고, maxStaleness 가 더 지나면 제거한다.
+            builder.refreshAfterWrite(properties.getExpireAfterWrite())
+                    .expireAfterWrite(properties.getExpireAfterWrite().plus(properties.getMaxStaleness()))
+                    .executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("user-point-cache-refresh-", 0).factory()));
+        } else {
+            builder.expireAfterWrite(properties.getExpireAfterWrite());
+        }
+
+        this.cache = builder.build(delegate::selectById);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user-point");
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return copy(cache.get(id));
+    }
+
+    /**
+     * 캐시에 없는 유저만 delegate 에서 한 번에 읽어 채운다.
+     */
+    @Override
+    public List<UserPoint> selectByIds(List<Long> ids) {
+
+        Map<Long, UserPoint> cached = cache.getAllPresent(ids);
+
+        List<Long> missing = new ArrayList<>();
+        for (long id : ids) {
+            if (!cached.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+
+        Map<Long, UserPoint> found = new HashMap<>(cached);
+        if (!missing.isEmpty()) {
+            for (UserPoint loaded : delegate.selectByIds(missing)) {
+                store(loaded);
+                found.put(loaded.getId(), loaded);
+            }
+        }
+
+        List<UserPoint> userPoints = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            userPoints.add(copy(found.get(id)));
+        }
+        return userPoints;
+    }
+
+    @Override
+    public UserPoint create(long id, long point) {
+        return store(delegate.create(id, point));
+    }
+
+    @Override
+    public UserPoint update(long id, long point) {
+        return store(delegate.update(id, point));
+    }
+
+    @Override
+    public UserPoint update(long id, long expectedVersion, long point) {
+        try {
+            return store(delegate.update(id, expectedVersion, point));
+        } catch (PointVersionConflictException e) {
+            cache.invalidate(id);
+            throw e;
+        }
+    }
+
+    private UserPoint store(UserPoint userPoint) {
+
+        cache.asMap().compute(userPoint.getId(), (id, cached) ->
+                cached == null || cached.getVersion() < userPoint.getVersion() ? userPoint : cached);
+        return copy(userPoint);
+    }
+
+    /**
+     * UserPoint 는 충전/사용 시 값이 바뀌므로 캐시에 있는 객체를 그대로 내보내지 않는다.
+     */
+    private static UserPoint copy(UserPoint userPoint) {
+        return new UserPoint(userPoint.getId(), userPoint.getPoint(), userPoint.getUpdateMillis(), userPoint.getVersion());
+    }
+}
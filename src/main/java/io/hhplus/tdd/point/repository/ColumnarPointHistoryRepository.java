@@ -0,0 +1,232 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.collection.ConcurrentLongMap;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 전체 내역을 primitive 컬럼에 쌓는 메모리 기반 PointHistory 저장소 (point.history.store=columnar)
+ * - 내역은 CHUNK_SIZE 건 단위 chunk 에 userId/amount/updateMillis(long[]), type(byte[]) 컬럼으로 저장하고, PointHistory 는 조회할 때만 만든다.
+ * - id 는 1부터 순서대로 발급하므로 (row + 1) 로 계산하고 따로 저장하지 않는다.
+ * - 유저별로는 내역의 row 번호(int[])와 집계만 두므로, 조회 비용은 해당 유저의 내역 수에 비례한다.
+ * - 기록은 lock 으로 직렬화하고, 조회는 lock 없이 공개된 건수까지만 읽는다.
+ */
+public class ColumnarPointHistoryRepository implements PointHistoryRepository {
+
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int CHUNK_SHIFT = Integer.numberOfTrailingZeros(CHUNK_SIZE);
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_ROWS = 4;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ConcurrentLongMap<UserRows> rowsByUser = new ConcurrentLongMap<>();
+
+    private volatile Chunk[] chunks = new Chunk[0];
+    private volatile int size;
+
+    @Override
+    public PointHistory create(long userId, long amount, TransactionType type, long updateMillis) {
+
+        appendLock.lock();
+        try {
+            int row = size;
+            if (row == Integer.MAX_VALUE) {
+                throw new IllegalStateException("저장할 수 있는 PointHistory 수를 초과했습니다.");
+            }
+
+            Chunk chunk = chunkFor(row);
+            int offset = row & CHUNK_MASK;
+            chunk.userIds[offset] = userId;
+            chunk.amounts[offset] = amount;
+            chunk.updateMillis[offset] = updateMillis;
+            chunk.types[offset] = (byte) type.ordinal();
+
+            PointHistory pointHistory = new PointHistory(row + 1L, userId, amount, type, updateMillis);
+            rowsByUser.computeIfAbsent(userId, key -> new UserRows()).append(row, pointHistory);
+            size = row + 1;
+            return pointHistory;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+
+        UserRows userRows = rowsByUser.get(userId);
+        if (userRows == null) {
+            return List.of();
+        }
+
+        int count = userRows.count;
+        int[] rows = userRows.rows;
+        Chunk[] current = chunks;
+
+        List<PointHistory> histories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            histories.add(get(current, rows[i]));
+        }
+        return histories;
+    }
+
+    /**
+     * 유저의 row 번호는 오름차순이므로 cursor 위치를 이진 탐색으로 찾고 limit 만큼만 읽는다.
+     */
+    @Override
+    public List<PointHistory> selectByUserId(long userId, PointHistorySearchDto condition) {
+
+        UserRows userRows = rowsByUser.get(userId);
+        if (userRows == null) {
+            return List.of();
+        }
+
+        int count = userRows.count;
+        int[] rows = userRows.rows;
+        Chunk[] current = chunks;
+        int limit = condition.getLimit();
+        long from = condition.getFrom();
+        long to = condition.getTo();
+        TransactionType type = condition.getType();
+
+        List<PointHistory> histories = new ArrayList<>(Math.min(count, Math.min(limit, 64)));
+        for (int i = firstIndexAfter(rows, count, condition.getCursor()); i < count && histories.size() < limit; i++) {
+            Chunk chunk = current[rows[i] >>> CHUNK_SHIFT];
+            int offset = rows[i] & CHUNK_MASK;
+            long millis = chunk.updateMillis[offset];
+            if (millis < from || millis >= to) {
+                continue;
+            }
+            if (type != null && chunk.types[offset] != type.ordinal()) {
+                continue;
+            }
+            histories.add(get(current, rows[i]));
+        }
+        return histories;
+    }
+
+    @Override
+    public void forEachByUserId(long userId, Consumer<PointHistory> action) {
+
+        UserRows userRows = rowsByUser.get(userId);
+        if (userRows == null) {
+            return;
+        }
+
+        int count = userRows.count;
+        int[] rows = userRows.rows;
+        Chunk[] current = chunks;
+        for (int i = 0; i < count; i++) {
+            action.accept(get(current, rows[i]));
+        }
+    }
+
+    /**
+     * 집계 값들이 한 시점의 값이 되도록 기록과 같은 lock 안에서 읽는다.
+     */
+    @Override
+    public PointHistorySummary selectSummaryByUserId(long userId) {
+
+        UserRows userRows = rowsByUser.get(userId);
+        if (userRows == null) {
+            return PointHistorySummary.empty(userId);
+        }
+
+        appendLock.lock();
+        try {
+            return userRows.aggregate.toSummary(userId);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지 저장한 내역 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * row 가 들어갈 chunk 를 반환하며, 마지막 chunk 가 가득 찼으면 새 chunk 를 붙인다.
+     */
+    private Chunk chunkFor(int row) {
+
+        Chunk[] current = chunks;
+        int index = row >>> CHUNK_SHIFT;
+        if (index == current.length) {
+            current = Arrays.copyOf(current, index + 1);
+            current[index] = new Chunk();
+            chunks = current;
+        }
+        return current[index];
+    }
+
+    private static PointHistory get(Chunk[] chunks, int row) {
+
+        Chunk chunk = chunks[row >>> CHUNK_SHIFT];
+        int offset = row & CHUNK_MASK;
+        return new PointHistory(row + 1L, chunk.userIds[offset], chunk.amounts[offset], TYPES[chunk.types[offset]],
+                chunk.updateMillis[offset]);
+    }
+
+    /**
+     * id(row + 1) 가 cursor 보다 큰 첫 위치
+     */
+    private static int firstIndexAfter(int[] rows, int count, long cursor) {
+
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rows[mid] + 1L <= cursor) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class Chunk {
+
+        private final long[] userIds = new long[CHUNK_SIZE];
+        private final long[] amounts = new long[CHUNK_SIZE];
+        private final long[] updateMillis = new long[CHUNK_SIZE];
+        private final byte[] types = new byte[CHUNK_SIZE];
+    }
+
+    /**
+     * 유저 한 명의 row 번호 목록과 집계, appendLock 안에서만 변경한다.
+     */
+    private static final class UserRows {
+
+        private final PointHistoryAggregate aggregate = new PointHistoryAggregate();
+
+        private volatile int[] rows = new int[INITIAL_ROWS];
+        private volatile int count;
+
+        private void append(int row, PointHistory pointHistory) {
+
+            int[] current = rows;
+            int index = count;
+            if (index == current.length) {
+                current = Arrays.copyOf(current, index * 2);
+                rows = current;
+            }
+            current[index] = row;
+            aggregate.add(pointHistory);
+
+            // row 를 쓴 뒤 count 를 공개해야 조회 스레드가 채워지지 않은 칸을 읽지 않는다.
+            count = index + 1;
+        }
+    }
+}
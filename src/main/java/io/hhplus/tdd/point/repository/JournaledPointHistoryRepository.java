@@ -0,0 +1,160 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.journal.JournalEventType;
+import io.hhplus.tdd.point.journal.PointHistorySnapshot;
+import io.hhplus.tdd.point.journal.PointJournal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * PointJournal 에 내역을 기록하는 메모리 기반 PointHistory 저장소 (point.storage.type=journal)
+ * - 내역은 저널에 CHARGE/USE 이벤트로 남기고, 조회는 PointHistoryIndex 에서 처리한다.
+ * - 유저별 집계도 PointHistoryIndex 가 관리하므로, 재생으로 내역을 다시 쌓으면 집계도 함께 복구된다.
+ * - id 는 저널에 기록하지 않는다. id 발급과 기록을 같은 lock 안에서 하므로, 재생 시 기록 순서대로 1부터 (스냅샷이 있으면 스냅샷의 마지막 id 다음부터) 다시 발급하면 같은 id 가 된다.
+ * - 내역 스냅샷이 있으면 인덱스와 집계, 마지막 id 를 스냅샷에서 채우고, 스냅샷 이후의 저널 기록만 재생한다.
+ */
+@Slf4j
+public class JournaledPointHistoryRepository implements PointHistoryRepository {
+
+    private final PointJournal journal;
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    // 생성자에서 스냅샷을 읽지 못하면 새 인덱스로 바꾼다. 이후에는 바뀌지 않는다.
+    private PointHistoryIndex index = new PointHistoryIndex();
+    private long lastId;
+
+    public JournaledPointHistoryRepository(PointJournal journal) {
+        this(journal, null);
+    }
+
+    public JournaledPointHistoryRepository(PointJournal journal, Path snapshotFile) {
+        this.journal = journal;
+
+        long fromPosition = loadSnapshot(snapshotFile);
+        journal.replay(fromPosition, (position, type, userId, value, updateMillis) -> {
+            if (type.isHistory()) {
+                index.append(new PointHistory(++lastId, userId, value, type.transactionType(), updateMillis));
+            }
+        });
+        log.info("Restored {} point histories from point journal (replayed from position {})", lastId, fromPosition);
+    }
+
+    @Override
+    public PointHistory create(long userId, long amount, TransactionType type, long updateMillis) {
+
+        PointHistory pointHistory;
+        long journalPosition;
+
+        appendLock.lock();
+        try {
+            journalPosition = journal.append(JournalEventType.of(type), userId, amount, updateMillis);
+            pointHistory = new PointHistory(++lastId, userId, amount, type, updateMillis);
+            index.append(pointHistory);
+        } finally {
+            appendLock.unlock();
+        }
+
+        journal.awaitDurable(journalPosition);
+        return pointHistory;
+    }
+
+    /**
+     * 현재 내역을 스냅샷으로 쓰고 담은 내역 수를 반환한다.
+     * 저널 위치와 마지막 id 는 append 와 같은 lock 안에서 정하므로, 그 id 까지의 내역은 모두 인덱스에 있다.
+     * 위치를 정한 뒤 쓰인 내역은 id 로 걸러내고, 복구 시 저널에서 다시 읽는다.
+     */
+    public long writeSnapshot(Path snapshotFile) throws IOException {
+
+        long journalPosition;
+        long snapshotLastId;
+        appendLock.lock();
+        try {
+            journalPosition = journal.position();
+            snapshotLastId = lastId;
+        } finally {
+            appendLock.unlock();
+        }
+
+        try (PointHistorySnapshot.Writer writer = new PointHistorySnapshot.Writer(snapshotFile, journalPosition, snapshotLastId)) {
+            try {
+                index.forEach(pointHistory -> {
+                    if (pointHistory.id() > snapshotLastId) {
+                        return;
+                    }
+                    try {
+                        writer.write(pointHistory.id(), pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            // 스냅샷에 담긴 내역이 저널에서 유실되면 복구 시 저널 위치가 어긋나므로, 저널을 먼저 디스크에 반영한다.
+            journal.flush();
+            writer.commit();
+            return writer.count();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return index.selectAllByUserId(userId);
+    }
+
+    @Override
+    public List<PointHistory> selectByUserId(long userId, PointHistorySearchDto condition) {
+        return index.selectByUserId(userId, condition);
+    }
+
+    @Override
+    public void forEachByUserId(long userId, Consumer<PointHistory> action) {
+        index.forEachByUserId(userId, action);
+    }
+
+    @Override
+    public PointHistorySummary selectSummaryByUserId(long userId) {
+        return index.selectSummaryByUserId(userId);
+    }
+
+    /**
+     * 스냅샷이 있으면 인덱스와 마지막 id 를 채우고 재생을 시작할 저널 위치를 반환한다.
+     * 스냅샷을 읽을 수 없거나 저널보다 앞서 있으면 버리고 저널 처음부터 재생한다.
+     */
+    private long loadSnapshot(Path snapshotFile) {
+
+        if (snapshotFile == null || !Files.exists(snapshotFile)) {
+            return 0L;
+        }
+
+        try {
+            PointHistorySnapshot.Header header = PointHistorySnapshot.read(snapshotFile, (id, userId, amount, type, updateMillis) ->
+                    index.append(new PointHistory(id, userId, amount, type, updateMillis)));
+            if (header.journalPosition() > journal.position()) {
+                throw new IOException("스냅샷 위치(" + header.journalPosition() + ")가 저널 끝(" + journal.position() + ")보다 뒤에 있습니다.");
+            }
+
+            lastId = header.lastHistoryId();
+            log.info("Loaded {} point histories from snapshot {} (journal position {})",
+                    lastId, snapshotFile, header.journalPosition());
+            return header.journalPosition();
+        } catch (IOException e) {
+            log.warn("Ignoring point history snapshot {}, replaying the whole journal", snapshotFile, e);
+            index = new PointHistoryIndex();
+            lastId = 0L;
+            return 0L;
+        }
+    }
+}
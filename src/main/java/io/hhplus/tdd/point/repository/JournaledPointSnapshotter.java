@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.config.PointJournalProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 저널 저장소의 잔액/내역 스냅샷을 주기적으로 쓰는 스케줄러
+ * - 재시작 시 잔액/내역 저장소가 재생할 저널 범위를 각자 마지막 스냅샷 이후로 줄인다.
+ * - 종료 시 한 번 더 스냅샷을 써서 다음 시작 때 재생할 기록이 없도록 한다.
+ * - 스냅샷 시간은 point.journal.snapshot 타이머로 기록한다.
+ */
+@Slf4j
+public class JournaledPointSnapshotter implements DisposableBean {
+
+    private final JournaledUserPointRepository userPointRepository;
+    private final JournaledPointHistoryRepository pointHistoryRepository;
+    private final Path snapshotFile;
+    private final Path historySnapshotFile;
+    private final Timer snapshotTimer;
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+
+    public JournaledPointSnapshotter(JournaledUserPointRepository userPointRepository,
+                                     JournaledPointHistoryRepository pointHistoryRepository,
+                                     Path snapshotFile,
+                                     Path historySnapshotFile,
+                                     PointJournalProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.snapshotFile = snapshotFile;
+        this.historySnapshotFile = historySnapshotFile;
+        this.snapshotTimer = meterRegistry.timer("point.journal.snapshot");
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getSnapshotInterval().toMillis();
+        if (intervalMillis > 0) {
+            this.scheduler.scheduleWithFixedDelay(this::snapshot, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 현재 잔액과 내역을 각각 스냅샷으로 쓴다. 실패한 쪽은 이전 스냅샷을 그대로 두고 다음 주기에 다시 시도한다.
+     */
+    public void snapshot() {
+
+        snapshotLock.lock();
+        try {
+            long startedAt = System.nanoTime();
+            try {
+                long count = userPointRepository.writeSnapshot(snapshotFile);
+                log.info("Point snapshot written to {} with {} user balances", snapshotFile, count);
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to write point snapshot to {}", snapshotFile, e);
+            }
+            try {
+                long count = pointHistoryRepository.writeSnapshot(historySnapshotFile);
+                log.info("Point history snapshot written to {} with {} histories", historySnapshotFile, count);
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to write point history snapshot to {}", historySnapshotFile, e);
+            }
+            snapshotTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+
+        snapshot();
+    }
+}
@@ -0,0 +1,207 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
+import io.hhplus.tdd.point.journal.JournalEventType;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.journal.PointSnapshot;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * PointJournal 에 변경을 기록하는 메모리 기반 UserPoint 저장소 (point.storage.type=journal)
+ * - 생성/변경은 저널에 JOIN/BALANCE 이벤트로 남긴 뒤 메모리에 반영하고, 시작 시 저널을 재생해 잔액과 version 을 복구한다.
+ * - 스냅샷이 있으면 스냅샷을 먼저 읽고, 스냅샷 이후의 저널 기록만 재생한다.
+ * - 한 유저의 기록과 반영은 유저 id 로 고른 stripe lock 안에서 하므로 저널 순서와 메모리 순서가 같다.
+ *   (저널 쓰기를 ConcurrentHashMap.compute 안에서 하면 같은 bin 의 다른 유저까지 I/O 동안 막힌다)
+ * - fsync 대기는 lock 밖에서 하므로 같은 유저의 다른 요청을 막지 않는다.
+ */
+@Slf4j
+public class JournaledUserPointRepository implements UserPointRepository {
+
+    private static final long ANY_VERSION = -1L;
+    private static final int WRITE_STRIPES = 1024;
+
+    private final PointJournal journal;
+    private final ConcurrentHashMap<Long, Balance> balances = new ConcurrentHashMap<>();
+    private final ReentrantLock[] writeLocks = new ReentrantLock[WRITE_STRIPES];
+
+    // 쓰기는 공유 모드로 잡고, 스냅샷 위치를 정할 때만 배타 모드로 잡아 진행 중인 쓰기가 반영되기를 기다린다.
+    private final StampedLock snapshotLock = new StampedLock();
+
+    public JournaledUserPointRepository(PointJournal journal) {
+        this(journal, null);
+    }
+
+    public JournaledUserPointRepository(PointJournal journal, Path snapshotFile) {
+        this.journal = journal;
+        for (int i = 0; i < writeLocks.length; i++) {
+            writeLocks[i] = new ReentrantLock();
+        }
+
+        long fromPosition = loadSnapshot(snapshotFile);
+        journal.replay(fromPosition, (position, type, userId, value, updateMillis) -> {
+            if (!type.isHistory()) {
+                restore(position, userId, value, updateMillis);
+            }
+        });
+        log.info("Restored {} user balances from point journal (replayed from position {})", balances.size(), fromPosition);
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+
+        Balance balance = balances.get(id);
+        if (balance == null) {
+            return UserPoint.empty(id);
+        }
+        return balance.toUserPoint(id);
+    }
+
+    @Override
+    public List<UserPoint> selectByIds(List<Long> ids) {
+
+        List<UserPoint> userPoints = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            userPoints.add(selectById(id));
+        }
+        return userPoints;
+    }
+
+    @Override
+    public UserPoint create(long id, long point) {
+        return write(JournalEventType.JOIN, id, ANY_VERSION, point);
+    }
+
+    @Override
+    public UserPoint update(long id, long point) {
+        return write(JournalEventType.BALANCE, id, ANY_VERSION, point);
+    }
+
+    @Override
+    public UserPoint update(long id, long expectedVersion, long point) {
+        return write(JournalEventType.BALANCE, id, expectedVersion, point);
+    }
+
+    /**
+     * 모든 잔액을 스냅샷으로 쓴다. 쓰는 동안에도 변경은 계속 반영된다.
+     * - 스냅샷 위치를 정하는 순간에만 새 쓰기를 잠시 막고, 그 위치 이전의 쓰기가 모두 메모리에 반영된 것을 보장한다.
+     * - 그 뒤에 반영된 변경이 스냅샷에 섞여 들어가도, 유저별로 반영된 저널 위치를 함께 쓰므로 복구 시 두 번 적용되지 않는다.
+     */
+    public long writeSnapshot(Path snapshotFile) throws IOException {
+
+        long journalPosition;
+        long stamp = snapshotLock.writeLock();
+        try {
+            journalPosition = journal.position();
+        } finally {
+            snapshotLock.unlockWrite(stamp);
+        }
+
+        try (PointSnapshot.Writer writer = new PointSnapshot.Writer(snapshotFile, journalPosition)) {
+            for (Map.Entry<Long, Balance> entry : balances.entrySet()) {
+                Balance balance = entry.getValue();
+                writer.write(entry.getKey(), balance.point(), balance.updateMillis(), balance.version(), balance.journalPosition());
+            }
+
+            // 스냅샷에 담긴 변경이 저널에서 유실되면 복구 시 저널 위치가 어긋나므로, 저널을 먼저 디스크에 반영한다.
+            journal.flush();
+            writer.commit();
+            return writer.count();
+        }
+    }
+
+    private UserPoint write(JournalEventType type, long id, long expectedVersion, long point) {
+
+        long journalPosition;
+        Balance written;
+
+        long stamp = snapshotLock.readLock();
+        ReentrantLock writeLock = writeLock(id);
+        writeLock.lock();
+        try {
+            Balance current = balances.get(id);
+            long version = current == null ? 0L : current.version();
+            if (expectedVersion != ANY_VERSION && version != expectedVersion) {
+                throw new PointVersionConflictException("다른 요청이 먼저 포인트를 변경했습니다.");
+            }
+
+            long now = System.currentTimeMillis();
+            journalPosition = journal.append(type, id, point, now);
+            written = new Balance(point, now, version + 1, journalPosition);
+            balances.put(id, written);
+        } finally {
+            writeLock.unlock();
+            snapshotLock.unlockRead(stamp);
+        }
+
+        journal.awaitDurable(journalPosition);
+        return written.toUserPoint(id);
+    }
+
+    private ReentrantLock writeLock(long id) {
+
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return writeLocks[(int) Math.floorMod(hash ^ (hash >>> 32), (long) WRITE_STRIPES)];
+    }
+
+    /**
+     * 스냅샷이 있으면 잔액을 채우고 재생을 시작할 저널 위치를 반환한다.
+     * 스냅샷을 읽을 수 없거나 저널보다 앞서 있으면 버리고 저널 처음부터 재생한다.
+     */
+    private long loadSnapshot(Path snapshotFile) {
+
+        if (snapshotFile == null || !Files.exists(snapshotFile)) {
+            return 0L;
+        }
+
+        try {
+            PointSnapshot.Header header = PointSnapshot.read(snapshotFile, (id, point, updateMillis, version, journalPosition) ->
+                    balances.put(id, new Balance(point, updateMillis, version, journalPosition)));
+            if (header.journalPosition() > journal.position()) {
+                throw new IOException("스냅샷 위치(" + header.journalPosition() + ")가 저널 끝(" + journal.position() + ")보다 뒤에 있습니다.");
+            }
+
+            log.info("Loaded {} user balances from snapshot {} (journal position {})",
+                    balances.size(), snapshotFile, header.journalPosition());
+            return header.journalPosition();
+        } catch (IOException e) {
+            log.warn("Ignoring point snapshot {}, replaying the whole journal", snapshotFile, e);
+            balances.clear();
+            return 0L;
+        }
+    }
+
+    /**
+     * 저널 재생 시 기록 순서대로 잔액을 반영한다. 기록 하나마다 version 이 하나씩 오른다.
+     * 스냅샷에 이미 반영된 기록(유저별 저널 위치 이하)은 건너뛴다.
+     */
+    private void restore(long position, long id, long point, long updateMillis) {
+
+        balances.compute(id, (key, current) -> {
+            if (current == null) {
+                return new Balance(point, updateMillis, 1L, position);
+            }
+            if (position <= current.journalPosition()) {
+                return current;
+            }
+            return new Balance(point, updateMillis, current.version() + 1, position);
+        });
+    }
+
+    private record Balance(long point, long updateMillis, long version, long journalPosition) {
+
+        private UserPoint toUserPoint(long id) {
+            return new UserPoint(id, point, updateMillis, version);
+        }
+    }
+}
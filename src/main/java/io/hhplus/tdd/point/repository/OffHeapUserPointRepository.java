@@ -0,0 +1,301 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.config.OffHeapUserPointProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 잔액을 heap 밖(direct buffer)의 open-addressing 해시 테이블에 두는 UserPoint 저장소 (point.user-point.store=off-heap)
+ * - 슬롯은 id | point | updateMillis | version (long 4개, 32 byte) 이며, version 0 인 슬롯은 비어 있는 슬롯이다.
+ * - 충돌은 linear probing 으로 처리하고, 삭제가 없으므로 tombstone 은 필요 없다.
+ * - 테이블은 stripe 로 나누고, 쓰기는 stripe 의 write lock 으로 직렬화한다. 가득 차면 해당 stripe 만 두 배로 늘린다.
+ *   stripe 가 최대 크기(MAX_SLOTS)에 이르면 새 유저의 쓰기는 IllegalStateException 으로 거절하고, 기존 유저의 쓰기는 계속 받는다.
+ * - 조회는 optimistic read 로 lock 없이 읽고, 그 사이 쓰기가 있었으면 read lock 으로 다시 읽는다.
+ * 유저 수와 무관하게 heap 에는 stripe 객체만 남으므로, 유저가 많아도 heap 크기와 GC 시간이 늘지 않는다.
+ * direct buffer 크기는 -XX:MaxDirectMemorySize 의 제한을 받는다.
+ */
+@Slf4j
+public class OffHeapUserPointRepository implements UserPointRepository {
+
+    private static final long ANY_VERSION = -1L;
+
+    private static final int SLOT_SIZE = 32;
+    private static final int ID_OFFSET = 0;
+    private static final int POINT_OFFSET = 8;
+    private static final int UPDATE_MILLIS_OFFSET = 16;
+    private static final int VERSION_OFFSET = 24;
+
+    private static final double LOAD_FACTOR = 0.6;
+    private static final int MIN_SLOTS = 16;
+    private static final int MAX_SLOTS = 1 << 25; // stripe 하나당 1GB
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    public OffHeapUserPointRepository(OffHeapUserPointProperties properties, MeterRegistry meterRegistry) {
+
+        int stripeCount = properties.getStripes();
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("stripes는 2의 거듭제곱이어야 합니다.");
+        }
+
+        long usersPerStripe = Math.max(1L, properties.getExpectedUsers() / stripeCount);
+        int slots = slotsFor(usersPerStripe);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(slots);
+        }
+        this.stripeMask = stripeCount - 1;
+
+        Gauge.builder("point.user-point.off-heap.bytes", this, OffHeapUserPointRepository::allocatedBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("point.user-point.off-heap.users", this, OffHeapUserPointRepository::size)
+                .register(meterRegistry);
+
+        log.info("Off-heap user point store allocated {} MB in {} stripes", allocatedBytes() >> 20, stripeCount);
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+
+        long hash = hash(id);
+        UserPoint userPoint = stripeOf(hash).read(id, hash);
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public List<UserPoint> selectByIds(List<Long> ids) {
+
+        List<UserPoint> userPoints = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            userPoints.add(selectById(id));
+        }
+        return userPoints;
+    }
+
+    @Override
+    public UserPoint create(long id, long point) {
+        return write(id, ANY_VERSION, point);
+    }
+
+    @Override
+    public UserPoint update(long id, long point) {
+        return write(id, ANY_VERSION, point);
+    }
+
+    @Override
+    public UserPoint update(long id, long expectedVersion, long point) {
+        return write(id, expectedVersion, point);
+    }
+
+    /**
+     * 저장된 유저 수
+     */
+    public long size() {
+
+        long size = 0L;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * 확보한 direct buffer 크기 (byte)
+     */
+    public long allocatedBytes() {
+
+        long bytes = 0L;
+        for (Stripe stripe : stripes) {
+            bytes += stripe.capacityBytes();
+        }
+        return bytes;
+    }
+
+    private UserPoint write(long id, long expectedVersion, long point) {
+
+        long hash = hash(id);
+        return stripeOf(hash).write(id, hash, expectedVersion, point);
+    }
+
+    private Stripe stripeOf(long hash) {
+        return stripes[(int) (hash >>> 32) & stripeMask];
+    }
+
+    /**
+     * stripe 선택에는 상위 32 bit, 슬롯 선택에는 하위 bit 를 쓰므로 id 의 bit 를 고르게 섞는다. (murmur3 fmix64)
+     */
+    private static long hash(long id) {
+
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static int slotsFor(long users) {
+
+        long needed = (long) Math.ceil(users / LOAD_FACTOR);
+        if (needed > MAX_SLOTS) {
+            throw new IllegalArgumentException("stripe 하나에 담을 수 있는 유저 수를 초과했습니다. stripes 를 늘려야 합니다.");
+        }
+        return Math.max(MIN_SLOTS, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private static final class Stripe {
+
+        private final StampedLock lock = new StampedLock();
+
+        // write lock 안에서만 바꾸고, 조회는 optimistic read 로 읽은 뒤 validate 한다.
+        private ByteBuffer table;
+        private int size;
+
+        private Stripe(int slots) {
+            this.table = ByteBuffer.allocateDirect(slots * SLOT_SIZE);
+        }
+
+        private UserPoint read(long id, long hash) {
+
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                UserPoint userPoint = find(table, id, hash);
+                if (lock.validate(stamp)) {
+                    return userPoint;
+                }
+            }
+
+            stamp = lock.readLock();
+            try {
+                return find(table, id, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private UserPoint write(long id, long hash, long expectedVersion, long point) {
+
+            long stamp = lock.writeLock();
+            try {
+                int offset = slotOffset(table, id, hash);
+                long version = table.getLong(offset + VERSION_OFFSET);
+                if (expectedVersion != ANY_VERSION && version != expectedVersion) {
+                    throw new PointVersionConflictException("다른 요청이 먼저 포인트를 변경했습니다.");
+                }
+
+                // 새 유저로 부하율을 넘게 되면 넣기 전에 늘린다. 더 늘릴 수 없으면 넣지 않고 거절해 빈 슬롯이 남아 있도록 한다.
+                if (version == 0L && size + 1 > slots(table) * LOAD_FACTOR) {
+                    resize();
+                    offset = slotOffset(table, id, hash);
+                }
+
+                long now = System.currentTimeMillis();
+                table.putLong(offset + ID_OFFSET, id)
+                        .putLong(offset + POINT_OFFSET, point)
+                        .putLong(offset + UPDATE_MILLIS_OFFSET, now)
+                        .putLong(offset + VERSION_OFFSET, version + 1);
+                if (version == 0L) {
+                    size++;
+                }
+                return new UserPoint(id, point, now, version + 1);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private int size() {
+
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private long capacityBytes() {
+
+            long stamp = lock.readLock();
+            try {
+                return table.capacity();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void resize() {
+
+            int slots = slots(table);
+            if (slots >= MAX_SLOTS) {
+                throw new IllegalStateException("off-heap 저장소의 stripe 가 가득 찼습니다. stripes 를 늘려야 합니다.");
+            }
+
+            ByteBuffer resized = ByteBuffer.allocateDirect(slots * 2 * SLOT_SIZE);
+            for (int offset = 0; offset < table.capacity(); offset += SLOT_SIZE) {
+                if (table.getLong(offset + VERSION_OFFSET) == 0L) {
+                    continue;
+                }
+                long id = table.getLong(offset + ID_OFFSET);
+                int target = slotOffset(resized, id, hash(id));
+                resized.putLong(target + ID_OFFSET, id)
+                        .putLong(target + POINT_OFFSET, table.getLong(offset + POINT_OFFSET))
+                        .putLong(target + UPDATE_MILLIS_OFFSET, table.getLong(offset + UPDATE_MILLIS_OFFSET))
+                        .putLong(target + VERSION_OFFSET, table.getLong(offset + VERSION_OFFSET));
+            }
+            table = resized;
+        }
+
+        /**
+         * id 의 슬롯을 찾아 값을 읽는다. 없으면 null 을 반환한다.
+         * optimistic read 중에는 값이 섞여 있을 수 있으므로, probing 은 테이블 크기만큼만 한다.
+         */
+        private static UserPoint find(ByteBuffer table, long id, long hash) {
+
+            int mask = slots(table) - 1;
+            int slot = (int) hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                int offset = slot * SLOT_SIZE;
+                long version = table.getLong(offset + VERSION_OFFSET);
+                if (version == 0L) {
+                    return null;
+                }
+                if (table.getLong(offset + ID_OFFSET) == id) {
+                    return new UserPoint(id, table.getLong(offset + POINT_OFFSET), table.getLong(offset + UPDATE_MILLIS_OFFSET), version);
+                }
+                slot = slot + 1 & mask;
+            }
+            return null;
+        }
+
+        /**
+         * id 가 있는 슬롯, 없으면 id 가 들어갈 빈 슬롯의 위치 (부하율을 1 미만으로 유지하므로 빈 슬롯은 항상 있다)
+         */
+        private static int slotOffset(ByteBuffer table, long id, long hash) {
+
+            int mask = slots(table) - 1;
+            int slot = (int) hash & mask;
+            while (true) {
+                int offset = slot * SLOT_SIZE;
+                if (table.getLong(offset + VERSION_OFFSET) == 0L || table.getLong(offset + ID_OFFSET) == id) {
+                    return offset;
+                }
+                slot = slot + 1 & mask;
+            }
+        }
+
+        private static int slots(ByteBuffer table) {
+            return table.capacity() / SLOT_SIZE;
+        }
+    }
+}
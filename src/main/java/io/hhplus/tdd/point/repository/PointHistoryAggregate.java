@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+/**
+ * 유저 한 명의 PointHistory 집계 (유형별 합계/건수, 첫/마지막 시각, 마지막 id)
+ * - 내역을 쌓을 때 함께 갱신하므로 집계 조회는 내역 수와 무관하게 O(1) 이다.
+ * - 동기화하지 않으므로 쓰기와 읽기는 사용하는 쪽의 lock 안에서 해야 한다.
+ */
+final class PointHistoryAggregate {
+
+    private static final int CHARGE = TransactionType.CHARGE.ordinal();
+    private static final int USE = TransactionType.USE.ordinal();
+
+    // TransactionType ordinal 순서
+    private final long[] totals = new long[TransactionType.values().length];
+    private final long[] counts = new long[TransactionType.values().length];
+    private long firstUpdateMillis;
+    private long lastUpdateMillis;
+    private long lastId;
+
+    void add(PointHistory pointHistory) {
+
+        int type = pointHistory.type().ordinal();
+        long millis = pointHistory.updateMillis();
+        boolean first = lastId == 0L;
+
+        totals[type] += pointHistory.amount();
+        counts[type]++;
+        firstUpdateMillis = first ? millis : Math.min(firstUpdateMillis, millis);
+        lastUpdateMillis = first ? millis : Math.max(lastUpdateMillis, millis);
+        lastId = Math.max(lastId, pointHistory.id());
+    }
+
+    PointHistorySummary toSummary(long userId) {
+        return new PointHistorySummary(userId, totals[CHARGE], totals[USE], counts[CHARGE], counts[USE],
+                firstUpdateMillis, lastUpdateMillis, lastId);
+    }
+}
@@ -0,0 +1,222 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.collection.ConcurrentLongMap;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * userId 기준 PointHistory 보조 인덱스
+ * - 유저별로 append-only 세그먼트를 두고, 각 세그먼트는 record 대신 primitive 배열에 컬럼별로 저장한다.
+ * - 조회 비용은 전체 내역 수가 아닌 해당 유저의 내역 수에 비례한다.
+ * - 조건 조회는 cursor 위치를 이진 탐색으로 찾고 limit 만큼만 읽는다.
+ * - 세그먼트 append 는 lock 으로 직렬화하고, 조회는 lock 없이 공개된 size 까지만 읽는다.
+ * - 유형별 합계/건수와 첫/마지막 시각은 append 때 함께 갱신하므로, 집계 조회는 내역 수와 무관하게 O(1) 이다.
+ */
+class PointHistoryIndex {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ConcurrentLongMap<Segment> segments = new ConcurrentLongMap<>();
+
+    void append(PointHistory pointHistory) {
+        segments.computeIfAbsent(pointHistory.userId(), Segment::new).append(pointHistory);
+    }
+
+    List<PointHistory> selectAllByUserId(long userId) {
+
+        Segment segment = segments.get(userId);
+        if (segment == null) {
+            return List.of();
+        }
+        return segment.toList();
+    }
+
+    List<PointHistory> selectByUserId(long userId, PointHistorySearchDto condition) {
+
+        Segment segment = segments.get(userId);
+        if (segment == null) {
+            return List.of();
+        }
+        return segment.search(condition);
+    }
+
+    PointHistorySummary selectSummaryByUserId(long userId) {
+
+        Segment segment = segments.get(userId);
+        if (segment == null) {
+            return PointHistorySummary.empty(userId);
+        }
+        return segment.summary();
+    }
+
+    /**
+     * 목록을 만들지 않고 해당 유저의 내역을 한 건씩 전달한다.
+     */
+    void forEachByUserId(long userId, Consumer<PointHistory> action) {
+
+        Segment segment = segments.get(userId);
+        if (segment != null) {
+            segment.forEach(action);
+        }
+    }
+
+    /**
+     * 모든 유저의 내역을 유저별 id 오름차순으로 한 건씩 전달한다. (유저 순서는 정해지지 않는다)
+     */
+    void forEach(Consumer<PointHistory> action) {
+        segments.forEach((userId, segment) -> segment.forEach(action));
+    }
+
+    private static final class Segment {
+
+        private final long userId;
+        private final ReentrantLock appendLock = new ReentrantLock();
+
+        private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+        private volatile int size;
+
+        // appendLock 안에서만 읽고 쓴다.
+        private final PointHistoryAggregate aggregate = new PointHistoryAggregate();
+
+        private Segment(long userId) {
+            this.userId = userId;
+        }
+
+        private void append(PointHistory pointHistory) {
+
+            appendLock.lock();
+            try {
+                Columns current = columns;
+                int index = size;
+                if (index == current.ids.length) {
+                    current = current.grow();
+                    columns = current;
+                }
+                current.ids[index] = pointHistory.id();
+                current.amounts[index] = pointHistory.amount();
+                current.updateMillis[index] = pointHistory.updateMillis();
+                current.types[index] = (byte) pointHistory.type().ordinal();
+                aggregate.add(pointHistory);
+
+                // 값을 모두 쓴 뒤 size 를 공개해야 조회 스레드가 채워지지 않은 칸을 읽지 않는다.
+                size = index + 1;
+            } finally {
+                appendLock.unlock();
+            }
+        }
+
+        /**
+         * 집계 값들이 한 시점의 값이 되도록 append 와 같은 lock 안에서 읽는다.
+         */
+        private PointHistorySummary summary() {
+
+            appendLock.lock();
+            try {
+                return aggregate.toSummary(userId);
+            } finally {
+                appendLock.unlock();
+            }
+        }
+
+        private List<PointHistory> toList() {
+
+            int count = size;
+            Columns current = columns;
+
+            List<PointHistory> histories = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                histories.add(current.get(userId, i));
+            }
+            return histories;
+        }
+
+        private void forEach(Consumer<PointHistory> action) {
+
+            int count = size;
+            Columns current = columns;
+            for (int i = 0; i < count; i++) {
+                action.accept(current.get(userId, i));
+            }
+        }
+
+        private List<PointHistory> search(PointHistorySearchDto condition) {
+
+            int count = size;
+            Columns current = columns;
+            int limit = condition.getLimit();
+            long from = condition.getFrom();
+            long to = condition.getTo();
+            TransactionType type = condition.getType();
+
+            List<PointHistory> histories = new ArrayList<>(Math.min(count, Math.min(limit, 64)));
+            for (int i = current.firstIndexAfter(condition.getCursor(), count); i < count && histories.size() < limit; i++) {
+                long millis = current.updateMillis[i];
+                if (millis < from || millis >= to) {
+                    continue;
+                }
+                if (type != null && current.types[i] != type.ordinal()) {
+                    continue;
+                }
+                histories.add(current.get(userId, i));
+            }
+            return histories;
+        }
+    }
+
+    private static final class Columns {
+
+        private final long[] ids;
+        private final long[] amounts;
+        private final long[] updateMillis;
+        private final byte[] types;
+
+        private Columns(int capacity) {
+            this.ids = new long[capacity];
+            this.amounts = new long[capacity];
+            this.updateMillis = new long[capacity];
+            this.types = new byte[capacity];
+        }
+
+        private Columns(Columns source, int capacity) {
+            this.ids = Arrays.copyOf(source.ids, capacity);
+            this.amounts = Arrays.copyOf(source.amounts, capacity);
+            this.updateMillis = Arrays.copyOf(source.updateMillis, capacity);
+            this.types = Arrays.copyOf(source.types, capacity);
+        }
+
+        private Columns grow() {
+            return new Columns(this, ids.length * 2);
+        }
+
+        /**
+         * id 가 cursor 보다 큰 첫 위치 (세그먼트는 id 오름차순으로 쌓인다)
+         */
+        private int firstIndexAfter(long cursor, int count) {
+
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ids[mid] <= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private PointHistory get(long userId, int index) {
+            return new PointHistory(ids[index], userId, amounts[index], TYPES[types[index]], updateMillis[index]);
+        }
+    }
+}
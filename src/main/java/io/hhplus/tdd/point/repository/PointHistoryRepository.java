@@ -1,13 +1,22 @@
 package io.hhplus.tdd.point.repository;
 
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
 import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
 import io.hhplus.tdd.point.entity.TransactionType;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PointHistoryRepository {
 
     public PointHistory create(long userId, long amount, TransactionType type, long updateMillis);
 
     public List<PointHistory> selectAllByUserId(long userId);
+
+    public List<PointHistory> selectByUserId(long userId, PointHistorySearchDto condition);
+
+    public void forEachByUserId(long userId, Consumer<PointHistory> action);
+
+    public PointHistorySummary selectSummaryByUserId(long userId);
 }
@@ -1,38 +1,94 @@
 package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
 import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
 import io.hhplus.tdd.point.entity.TransactionType;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class PointHistoryRepositoryImpl implements PointHistoryRepository {
 
     private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryIndex index = new PointHistoryIndex();
+
+    // PointHistoryTable 호출 시간 (point.table{table=point_history}), 조회는 인덱스에서 처리하므로 insert 만 기록한다.
+    private final Timer insertTimer;
+
+    public PointHistoryRepositoryImpl(PointHistoryTable pointHistoryTable, MeterRegistry meterRegistry) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.insertTimer = meterRegistry.timer("point.table", "table", "point_history", "method", "insert");
+    }
 
     @Override
     public PointHistory create(long userId, long amount, TransactionType type, long updateMillis) {
-        log.info("Creating PointHistory for userId: {}, amount: {}, type: {}, timestamp: {}", userId, amount, type, updateMillis);
+        if (log.isDebugEnabled()) {
+            log.debug("Creating PointHistory for userId: {}, amount: {}, type: {}, timestamp: {}", userId, amount, type, updateMillis);
+        }
 
+        long startedAt = System.nanoTime();
         PointHistory result = pointHistoryTable.insert(userId, amount, type, updateMillis);
-        log.info("PointHistory created successfully with ID: {}", result.id());
+        insertTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        index.append(result);
+        if (log.isDebugEnabled()) {
+            log.debug("PointHistory created successfully with ID: {}", result.id());
+        }
 
         return result;
     }
 
     @Override
     public List<PointHistory> selectAllByUserId(long userId) {
-        log.info("Fetching PointHistory for userId: {}", userId);
+        if (log.isDebugEnabled()) {
+            log.debug("Fetching PointHistory for userId: {}", userId);
+        }
+
+        List<PointHistory> histories = index.selectAllByUserId(userId);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} PointHistory records for userId: {}", histories.size(), userId);
+        }
+        return histories;
+    }
+
+    @Override
+    public List<PointHistory> selectByUserId(long userId, PointHistorySearchDto condition) {
+        if (log.isDebugEnabled()) {
+            log.debug("Fetching PointHistory for userId: {}, cursor: {}, limit: {}", userId, condition.getCursor(), condition.getLimit());
+        }
 
-        List<PointHistory> histories = pointHistoryTable.selectAllByUserId(userId);
+        List<PointHistory> histories = index.selectByUserId(userId, condition);
 
-        log.info("Found {} PointHistory records for userId: {}", histories.size(), userId);
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} PointHistory records for userId: {}", histories.size(), userId);
+        }
         return histories;
     }
+
+    @Override
+    public void forEachByUserId(long userId, Consumer<PointHistory> action) {
+        if (log.isDebugEnabled()) {
+            log.debug("Streaming PointHistory for userId: {}", userId);
+        }
+
+        index.forEachByUserId(userId, action);
+    }
+
+    @Override
+    public PointHistorySummary selectSummaryByUserId(long userId) {
+        if (log.isDebugEnabled()) {
+            log.debug("Fetching PointHistory summary for userId: {}", userId);
+        }
+
+        return index.selectSummaryByUserId(userId);
+    }
 }
@@ -2,11 +2,24 @@ package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.point.entity.UserPoint;
 
+import java.util.List;
+
 public interface UserPointRepository {
 
     public UserPoint selectById(long id);
 
+    /**
+     * 여러 유저의 포인트를 한 번에 조회한다. 결과는 ids 와 같은 순서로 반환한다.
+     */
+    public List<UserPoint> selectByIds(List<Long> ids);
+
     public UserPoint create(long id, long point);
 
     public UserPoint update(long id, long point);
+
+    /**
+     * 현재 version 이 expectedVersion 일 때만 point 를 반영하고 version 을 올린다.
+     * - 다른 변경이 먼저 반영됐다면 PointVersionConflictException 을 던진다.
+     */
+    public UserPoint update(long id, long expectedVersion, long point);
 }
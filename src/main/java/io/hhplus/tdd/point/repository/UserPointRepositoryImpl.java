@@ -1,45 +1,281 @@
 package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.collection.ConcurrentLongMap;
 import io.hhplus.tdd.point.entity.UserPoint;
-import lombok.RequiredArgsConstructor;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * UserPointTable 위의 저장소
+ * - 테이블은 version 을 저장하지 않으므로 유저별 version 을 이 계층에서 관리한다.
+ * - version 상태값은 (version << 1 | 쓰는 중) 이며, 모든 쓰기는 lock 없이 CAS 로 쓰는 중 표시를 얻은 뒤 테이블에 쓴다.
+ *   조건부 update 는 표시를 얻지 못하면 바로 실패하고, 조건 없는 쓰기는 표시가 풀릴 때까지 기다린다.
+ * - version 상태는 쓰기에서만 만든다. 조회는 상태가 없으면 제거된 version 중 가장 큰 값을 version 으로 사용한다.
+ * - VERSION_IDLE_MILLIS 동안 쓰지 않은 상태는 제거한다. 제거 전에 가장 큰 version 을 먼저 올려두므로,
+ *   제거 후 다시 만든 상태의 version 은 제거 전에 조회한 어떤 version 보다 작아지지 않는다. (이전 조회로 하는 update 는 그 사이 쓰기가 있었다면 실패한다)
+ */
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class UserPointRepositoryImpl implements UserPointRepository {
 
+    // 다른 쓰기가 끝나기를 기다리는 간격, 테이블 쓰기는 수백 ms 까지 걸리므로 busy spin 하지 않는다.
+    private static final long WRITE_WAIT_NANOS = 10_000L;
+    private static final long VERSION_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    // 제거된 version 상태의 값. 이 값을 본 쓰기는 맵에서 새 상태를 받아 다시 시도한다.
+    private static final long RETIRED = -1L;
+
     private final UserPointTable userPointTable;
+    private final ConcurrentLongMap<VersionState> versions = new ConcurrentLongMap<>();
+    // 제거된 version 중 가장 큰 값, 상태가 없는 유저의 version 이자 새 상태의 시작 version 이다.
+    private final AtomicLong evictedVersion = new AtomicLong();
+    private final AtomicLong nextEvictionMillis = new AtomicLong(System.currentTimeMillis() + VERSION_IDLE_MILLIS);
+
+    // UserPointTable 호출 시간 (point.table{table=user_point})
+    private final Timer selectByIdTimer;
+    private final Timer insertOrUpdateTimer;
+
+    public UserPointRepositoryImpl(UserPointTable userPointTable, MeterRegistry meterRegistry) {
+        this.userPointTable = userPointTable;
+        this.selectByIdTimer = meterRegistry.timer("point.table", "table", "user_point", "method", "selectById");
+        this.insertOrUpdateTimer = meterRegistry.timer("point.table", "table", "user_point", "method", "insertOrUpdate");
+    }
 
     @Override
     public UserPoint selectById(long id) {
-        log.info("Fetching UserPoint for userId: {}", id);
+        if (log.isDebugEnabled()) {
+            log.debug("Fetching UserPoint for userId: {}", id);
+        }
+
+        // version 을 먼저 읽는다. 이후 다른 쓰기가 반영되면 이 version 으로 하는 조건부 update 는 실패한다.
+        long version = currentVersion(id);
 
-        UserPoint userPoint = userPointTable.selectById(id);
-        log.info("UserPoint found with userId: {}, point: {}", userPoint.getId(), userPoint.getPoint());
+        long startedAt = System.nanoTime();
+        UserPoint stored = userPointTable.selectById(id);
+        selectByIdTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        UserPoint userPoint = new UserPoint(stored.getId(), stored.getPoint(), stored.getUpdateMillis(), version);
+        if (log.isDebugEnabled()) {
+            log.debug("UserPoint found with userId: {}, point: {}", userPoint.getId(), userPoint.getPoint());
+        }
 
         return userPoint;
     }
 
+    /**
+     * 테이블은 유저 한 명씩 조회할 수 있으므로, 유저별 조회를 virtual thread 로 동시에 실행해 테이블 지연이 한 번만 들도록 한다.
+     */
+    @Override
+    public List<UserPoint> selectByIds(List<Long> ids) {
+        if (log.isDebugEnabled()) {
+            log.debug("Fetching UserPoints for {} users", ids.size());
+        }
+
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>(ids.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long id : ids) {
+                futures.add(CompletableFuture.supplyAsync(() -> selectById(id), executor));
+            }
+        }
+
+        List<UserPoint> userPoints = new ArrayList<>(ids.size());
+        for (CompletableFuture<UserPoint> future : futures) {
+            try {
+                userPoints.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return userPoints;
+    }
+
     @Override
     public UserPoint create(long id, long point) {
-        log.info("Creating UserPoint for userId: {}, initial point: {}", id, point);
+        if (log.isDebugEnabled()) {
+            log.debug("Creating UserPoint for userId: {}, initial point: {}", id, point);
+        }
 
-        UserPoint result = userPointTable.insertOrUpdate(id, point);
-        log.info("UserPoint created successfully with userId: {}, point: {}", result.getId(), result.getPoint());
+        UserPoint result = write(id, point);
+        if (log.isDebugEnabled()) {
+            log.debug("UserPoint created successfully with userId: {}, point: {}", result.getId(), result.getPoint());
+        }
 
         return result;
     }
 
     @Override
     public UserPoint update(long id, long point) {
-        log.info("Updating UserPoint for userId: {}, new point: {}", id, point);
+        if (log.isDebugEnabled()) {
+            log.debug("Updating UserPoint for userId: {}, new point: {}", id, point);
+        }
 
-        UserPoint result = userPointTable.insertOrUpdate(id, point);
-        log.info("UserPoint updated successfully with userId: {}, point: {}", result.getId(), result.getPoint());
+        UserPoint result = write(id, point);
+        if (log.isDebugEnabled()) {
+            log.debug("UserPoint updated successfully with userId: {}, point: {}", result.getId(), result.getPoint());
+        }
 
         return result;
     }
+
+    @Override
+    public UserPoint update(long id, long expectedVersion, long point) {
+        if (log.isDebugEnabled()) {
+            log.debug("Updating UserPoint for userId: {}, expected version: {}, new point: {}", id, expectedVersion, point);
+        }
+
+        // 쓰는 중 표시를 CAS 로 얻은 요청만 테이블에 쓴다. 다른 쓰기가 진행 중이거나 이미 반영됐다면 바로 실패한다.
+        long expectedState = expectedVersion << 1;
+        while (true) {
+            VersionState state = liveState(id);
+            if (state.value.compareAndSet(expectedState, expectedState | 1L)) {
+                return writeHeld(id, point, state);
+            }
+            if (state.value.get() != RETIRED) {
+                throw new PointVersionConflictException("다른 요청이 먼저 포인트를 변경했습니다.");
+            }
+        }
+    }
+
+    /**
+     * writtenBefore 이전에 마지막으로 쓴, 쓰는 중이 아닌 version 상태를 제거한다.
+     */
+    public void evictVersionsWrittenBefore(long writtenBefore) {
+
+        versions.forEach((id, state) -> {
+            if (state.writtenAt < writtenBefore && state.retire(evictedVersion)) {
+                versions.computeIfPresent(id, (key, current) -> current == state ? null : current);
+            }
+        });
+    }
+
+    public int versionCount() {
+        return versions.size();
+    }
+
+    /**
+     * 조건 없는 쓰기도 같은 쓰는 중 표시를 얻은 뒤에 쓴다. 다른 쓰기가 진행 중이면 끝날 때까지 기다린다.
+     */
+    private UserPoint write(long id, long point) {
+
+        VersionState state = liveState(id);
+        while (true) {
+            long current = state.value.get();
+            if (current == RETIRED) {
+                state = liveState(id);
+                continue;
+            }
+            if ((current & 1L) == 0L && state.value.compareAndSet(current, current | 1L)) {
+                return writeHeld(id, point, state);
+            }
+            LockSupport.parkNanos(WRITE_WAIT_NANOS);
+        }
+    }
+
+    /**
+     * 쓰는 중 표시를 얻은 상태에서 테이블에 쓰고, 표시를 지우면서 version 을 하나 올린다.
+     * 표시를 가진 동안 다른 쓰기는 없으므로 올린 version 이 이 쓰기가 저장한 version 이다.
+     */
+    private UserPoint writeHeld(long id, long point, VersionState state) {
+
+        UserPoint stored;
+        long version;
+        try {
+            stored = insertOrUpdate(id, point);
+        } finally {
+            state.writtenAt = System.currentTimeMillis();
+            version = state.value.incrementAndGet() >>> 1;
+        }
+        evictIdleVersionsIfDue();
+
+        return new UserPoint(stored.getId(), stored.getPoint(), stored.getUpdateMillis(), version);
+    }
+
+    private UserPoint insertOrUpdate(long id, long point) {
+
+        long startedAt = System.nanoTime();
+        UserPoint stored = userPointTable.insertOrUpdate(id, point);
+        insertOrUpdateTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        return stored;
+    }
+
+    /**
+     * 조회용 version, 상태가 없으면 만들지 않고 제거된 version 중 가장 큰 값을 사용한다.
+     */
+    private long currentVersion(long id) {
+
+        while (true) {
+            VersionState state = versions.get(id);
+            if (state == null) {
+                return evictedVersion.get();
+            }
+            long current = state.value.get();
+            if (current != RETIRED) {
+                return current >>> 1;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private VersionState liveState(long id) {
+
+        while (true) {
+            VersionState state = versions.computeIfAbsent(id, key -> new VersionState(evictedVersion.get()));
+            if (state.value.get() != RETIRED) {
+                return state;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * VERSION_IDLE_MILLIS 마다 한 번, 그 시점에 쓰기를 마친 스레드 하나가 그동안 쓰지 않은 상태를 제거한다.
+     */
+    private void evictIdleVersionsIfDue() {
+
+        long now = System.currentTimeMillis();
+        long scheduled = nextEvictionMillis.get();
+        if (now >= scheduled && nextEvictionMillis.compareAndSet(scheduled, now + VERSION_IDLE_MILLIS)) {
+            evictVersionsWrittenBefore(now - VERSION_IDLE_MILLIS);
+        }
+    }
+
+    private static final class VersionState {
+
+        private final AtomicLong value;
+        private volatile long writtenAt = System.currentTimeMillis();
+
+        private VersionState(long version) {
+            this.value = new AtomicLong(version << 1);
+        }
+
+        /**
+         * 쓰는 중이 아닐 때만 RETIRED 로 바꾼다. 바꾸기 전에 가장 큰 version 을 먼저 올려둔다.
+         */
+        private boolean retire(AtomicLong evictedVersion) {
+
+            long current = value.get();
+            if (current == RETIRED || (current & 1L) != 0L) {
+                return false;
+            }
+            evictedVersion.accumulateAndGet(current >>> 1, Math::max);
+            return value.compareAndSet(current, RETIRED);
+        }
+    }
 }
@@ -0,0 +1,306 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.collection.ConcurrentLongMap;
+import io.hhplus.tdd.point.config.WriteBehindProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UserPointRepository 앞단의 write-behind 캐시
+ * - 최초 조회 이후의 조회는 캐시에서 응답한다.
+ * - 변경은 캐시에 즉시 반영되고, 한 유저의 여러 변경은 flusher 가 한 번의 update 로 합쳐서 반영한다.
+ * - 종료 시 남아있는 변경을 모두 반영한다.
+ * - 반영이 끝난 엔트리는 expireAfterAccess 동안 사용하지 않으면 flusher 가 제거하고, 다음 조회에서 delegate 에서 다시 읽는다.
+ * - 조건부 update 의 version 비교는 캐시의 version 으로 한다.
+ */
+@Slf4j
+public class WriteBehindUserPointRepository implements UserPointRepository, DisposableBean {
+
+    private static final long ANY_VERSION = -1L;
+
+    private final UserPointRepository delegate;
+    private final long maxDirtyAgeMillis;
+    private final long expireAfterAccessMillis;
+
+    private final ConcurrentLongMap<Entry> entries = new ConcurrentLongMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public WriteBehindUserPointRepository(UserPointRepository delegate, WriteBehindProperties properties) {
+        this.delegate = delegate;
+        this.maxDirtyAgeMillis = properties.getMaxDirtyAge().toMillis();
+        this.expireAfterAccessMillis = properties.getExpireAfterAccess().toMillis();
+
+        long flushIntervalMillis = properties.getFlushInterval().toMillis();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-point-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushAll, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+
+        Entry entry = lock(id);
+        try {
+            load(entry);
+            return entry.snapshot();
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시에 없는 유저만 delegate 에서 한 번에 읽어 채우고, 나머지는 캐시에서 응답한다.
+     */
+    @Override
+    public List<UserPoint> selectByIds(List<Long> ids) {
+
+        List<Long> missing = new ArrayList<>();
+        for (long id : ids) {
+            Entry entry = entries.get(id);
+            if (entry == null || !entry.loaded) {
+                missing.add(id);
+            }
+        }
+
+        // delegate 조회는 entry.lock 밖에서 하고, 그 사이 다른 요청이 먼저 채운 entry 는 덮어쓰지 않는다.
+        if (!missing.isEmpty()) {
+            for (UserPoint loaded : delegate.selectByIds(missing)) {
+                Entry entry = lock(loaded.getId());
+                try {
+                    fill(entry, loaded);
+                } finally {
+                    entry.lock.unlock();
+                }
+            }
+        }
+
+        Map<Long, UserPoint> snapshots = new HashMap<>();
+        List<UserPoint> userPoints = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            userPoints.add(snapshots.computeIfAbsent(id, this::selectById));
+        }
+        return userPoints;
+    }
+
+    @Override
+    public UserPoint create(long id, long point) {
+        return write(id, ANY_VERSION, point);
+    }
+
+    @Override
+    public UserPoint update(long id, long point) {
+        return write(id, ANY_VERSION, point);
+    }
+
+    @Override
+    public UserPoint update(long id, long expectedVersion, long point) {
+        return write(id, expectedVersion, point);
+    }
+
+    /**
+     * 반영되지 않은 모든 변경을 delegate 에 반영하고, 오래 사용하지 않은 엔트리를 제거한다.
+     */
+    public void flushAll() {
+
+        long idleSince = System.currentTimeMillis() - expireAfterAccessMillis;
+        entries.forEach((id, entry) -> {
+            try {
+                flush(entry);
+            } catch (RuntimeException e) {
+                log.error("Failed to flush UserPoint for userId: {}", id, e);
+                return;
+            }
+            entries.computeIfPresent(id, (key, current) -> current == entry && entry.evictIfIdle(idleSince) ? null : current);
+        });
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+
+        flushAll();
+        log.info("Write-behind cache flushed on shutdown");
+    }
+
+    private UserPoint write(long id, long expectedVersion, long point) {
+
+        Entry entry = lock(id);
+        UserPoint result;
+        boolean overdue;
+
+        try {
+            if (expectedVersion != ANY_VERSION) {
+                load(entry);
+                if (entry.version != expectedVersion) {
+                    throw new PointVersionConflictException("다른 요청이 먼저 포인트를 변경했습니다.");
+                }
+            }
+
+            long now = System.currentTimeMillis();
+            entry.point = point;
+            entry.updateMillis = now;
+            entry.loaded = true;
+            entry.version++;
+            if (entry.dirtySince == 0L) {
+                entry.dirtySince = now;
+            }
+            overdue = now - entry.dirtySince >= maxDirtyAgeMillis;
+            result = entry.snapshot();
+        } finally {
+            entry.lock.unlock();
+        }
+
+        // flusher 가 밀려 변경이 오래 반영되지 않았다면 쓰기 요청에서 직접 반영한다.
+        // 변경은 이미 캐시에 반영됐으므로, 실패해도 호출자에게 던지지 않고 dirty 로 남겨 flusher 가 다시 반영하게 한다.
+        if (overdue) {
+            try {
+                flush(entry);
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush overdue UserPoint for userId: {}, leaving it to the flusher", id, e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * id 의 엔트리를 잠가서 반환한다. 잠그기 전에 제거된 엔트리면 새 엔트리로 다시 시도한다.
+     */
+    private Entry lock(long id) {
+
+        while (true) {
+            Entry entry = entries.computeIfAbsent(id, Entry::new);
+            entry.lock.lock();
+            if (!entry.evicted) {
+                entry.lastAccessMillis = System.currentTimeMillis();
+                return entry;
+            }
+            entry.lock.unlock();
+        }
+    }
+
+    /**
+     * 처음 조회하는 유저는 delegate 에서 읽어 캐시에 채운다. entry.lock 을 잡은 상태에서 호출한다.
+     */
+    private void load(Entry entry) {
+
+        if (entry.loaded) {
+            return;
+        }
+
+        fill(entry, delegate.selectById(entry.id));
+    }
+
+    /**
+     * 아직 채워지지 않은 entry 에만 delegate 에서 읽은 값을 채운다. entry.lock 을 잡은 상태에서 호출한다.
+     */
+    private void fill(Entry entry, UserPoint loaded) {
+
+        if (entry.loaded) {
+            return;
+        }
+
+        entry.point = loaded.getPoint();
+        entry.updateMillis = loaded.getUpdateMillis();
+        entry.version = loaded.getVersion();
+        entry.flushedVersion = loaded.getVersion();
+        entry.loaded = true;
+    }
+
+    private void flush(Entry entry) {
+
+        // 같은 유저에 대한 반영은 순서대로 한 번에 하나씩만 수행한다.
+        entry.flushLock.lock();
+        try {
+            long version;
+            long point;
+
+            entry.lock.lock();
+            try {
+                if (!entry.isDirty()) {
+                    return;
+                }
+                version = entry.version;
+                point = entry.point;
+            } finally {
+                entry.lock.unlock();
+            }
+
+            delegate.update(entry.id, point);
+
+            entry.lock.lock();
+            try {
+                entry.flushedVersion = version;
+                if (!entry.isDirty()) {
+                    entry.dirtySince = 0L;
+                }
+            } finally {
+                entry.lock.unlock();
+            }
+        } finally {
+            entry.flushLock.unlock();
+        }
+    }
+
+    private static final class Entry {
+
+        private final long id;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ReentrantLock flushLock = new ReentrantLock();
+
+        private boolean loaded;
+        private long point;
+        private long updateMillis;
+        private long version;
+        private long flushedVersion;
+        private long dirtySince;
+        private long lastAccessMillis;
+        private boolean evicted;
+
+        private Entry(long id) {
+            this.id = id;
+        }
+
+        private boolean isDirty() {
+            return version != flushedVersion;
+        }
+
+        /**
+         * 반영이 끝났고 idleSince 이후 사용되지 않았으면 제거 표시를 한다. 맵의 compute 안에서 호출되므로 lock 을 기다리지 않는다.
+         */
+        private boolean evictIfIdle(long idleSince) {
+
+            if (!lock.tryLock()) {
+                return false;
+            }
+            try {
+                if (isDirty() || lastAccessMillis > idleSince) {
+                    return false;
+                }
+                evicted = true;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private UserPoint snapshot() {
+            return new UserPoint(id, point, updateMillis, version);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResultDto;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.NegativeValueException;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 동시성 제어 방식과 무관한 조회/가입 기능을 모아둔 PointService 기본 구현
+ * - 충전/사용은 동시성 모드별 구현체가 담당한다.
+ * - 되돌리기 실패 수는 MeterBinder 로 노출한다. (point.compensation.failures)
+ */
+@Slf4j
+public abstract class AbstractPointService implements PointService, MeterBinder {
+
+    private static final int MAX_BULK_READ_SIZE = 1000;
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    protected final PointHistoryRepository pointHistoryRepository;
+    protected final UserPointRepository userPointRepository;
+
+    // 되돌리기에 실패해 이력과 잔액이 어긋난 채 남은 횟수 (point.compensation.failures)
+    private final LongAdder compensationFailures = new LongAdder();
+
+    protected AbstractPointService(PointHistoryRepository pointHistoryRepository, UserPointRepository userPointRepository) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userPointRepository = userPointRepository;
+    }
+
+    @Override
+    public UserPoint join(UserPointDto userPointDto) {
+
+        long id = userPointDto.getId();
+        long point = userPointDto.getPoint();
+        if (log.isDebugEnabled()) {
+            log.debug("User with ID: {} is joining with initial point: {}", id, point);
+        }
+
+        return userPointRepository.create(id, point);
+    }
+
+    @Override
+    public UserPoint getPoint(UserPointDto userPointDto) {
+
+        long id = userPointDto.getId();
+        if (log.isDebugEnabled()) {
+            log.debug("Fetching points for user with ID: {}", id);
+        }
+        return userPointRepository.selectById(id);
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 조회한다. 중복된 id 는 한 번만 조회하며, 결과는 처음 요청된 순서를 따른다.
+     */
+    @Override
+    public List<UserPoint> getPoints(List<Long> userIds) {
+
+        if (userIds.size() > MAX_BULK_READ_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 유저 수는 " + MAX_BULK_READ_SIZE + "명 이하입니다.");
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Fetching points for {} users", userIds.size());
+        }
+
+        return userPointRepository.selectByIds(new ArrayList<>(new LinkedHashSet<>(userIds)));
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(PointHistoryDto pointHistoryDto) {
+
+        long userId = pointHistoryDto.getUserId();
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving point history for user with ID: {}", userId);
+        }
+
+        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(userId);
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} point history records for user with ID: {}", histories.size(), userId);
+        }
+
+        return histories;
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(PointHistorySearchDto pointHistorySearchDto) {
+
+        long userId = pointHistorySearchDto.getUserId();
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving point history for user with ID: {} after cursor: {}", userId, pointHistorySearchDto.getCursor());
+        }
+
+        List<PointHistory> histories = pointHistoryRepository.selectByUserId(userId, pointHistorySearchDto);
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} point history records for user with ID: {}", histories.size(), userId);
+        }
+
+        return histories;
+    }
+
+    @Override
+    public PointHistorySummary getPointHistorySummary(PointHistoryDto pointHistoryDto) {
+
+        long userId = pointHistoryDto.getUserId();
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving point history summary for user with ID: {}", userId);
+        }
+
+        return pointHistoryRepository.selectSummaryByUserId(userId);
+    }
+
+    @Override
+    public void exportPointHistories(List<Long> userIds, Consumer<PointHistory> consumer) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Exporting point histories for {} users", userIds.size());
+        }
+        for (long userId : userIds) {
+            pointHistoryRepository.forEachByUserId(userId, consumer);
+        }
+    }
+
+    /**
+     * 요청을 유저별로 묶어 유저 간에는 병렬로, 한 유저 안에서는 요청 순서대로 처리한다.
+     * 결과는 요청과 같은 순서로 반환한다. 한 번에 MAX_BATCH_SIZE 건까지 처리한다.
+     * 유저의 요청 묶음 전체가 실패하면 그 유저의 결과에는 잔액을 담지 않는다.
+     */
+    @Override
+    public List<PointOperationResultDto> processBatch(List<PointOperationDto> operations) {
+
+        if (operations.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 요청 수는 " + MAX_BATCH_SIZE + "건 이하입니다.");
+        }
+
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByUser.computeIfAbsent(operations.get(i).getUserId(), k -> new ArrayList<>()).add(i);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Processing {} point operations for {} users", operations.size(), indexesByUser.size());
+        }
+
+        PointOperationResultDto[] results = new PointOperationResultDto[operations.size()];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            indexesByUser.forEach((userId, indexes) -> executor.submit(() -> {
+                List<PointOperationDto> userOperations = new ArrayList<>(indexes.size());
+                for (int index : indexes) {
+                    userOperations.add(operations.get(index));
+                }
+
+                try {
+                    List<PointOperationResultDto> userResults = applyUserBatch(userId, userOperations);
+                    for (int i = 0; i < indexes.size(); i++) {
+                        results[indexes.get(i)] = userResults.get(i);
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Failed to process point operations for user with ID: {}", userId, e);
+                    for (int index : indexes) {
+                        results[index] = PointOperationResultDto.failure(operations.get(index), e);
+                    }
+                }
+            }));
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 한 유저의 요청들을 순서대로 처리한다.
+     * 기본 구현은 요청마다 chargePoint/usePoint 를 호출하며, 동시성 모드별로 한 번에 처리하도록 재정의할 수 있다.
+     */
+    protected List<PointOperationResultDto> applyUserBatch(long userId, List<PointOperationDto> operations) {
+
+        List<PointOperationResultDto> results = new ArrayList<>(operations.size());
+        for (PointOperationDto operation : operations) {
+            UserPointDto userPointDto = UserPointDto.builder().id(userId).amount(operation.getAmount()).build();
+            try {
+                UserPoint userPoint = switch (requireType(operation)) {
+                    case CHARGE -> chargePoint(userPointDto);
+                    case USE -> usePoint(userPointDto);
+                };
+                results.add(PointOperationResultDto.success(operation, userPoint.getPoint()));
+            } catch (RuntimeException e) {
+                results.add(PointOperationResultDto.failure(operation, getPoint(userPointDto).getPoint(), e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * UserPoint 에 요청 하나를 적용한다. 검증에 실패하면 UserPoint 는 바뀌지 않는다.
+     */
+    protected void apply(UserPoint userPoint, PointOperationDto operation) {
+
+        validatePositiveAmount(operation.getAmount());
+
+        switch (requireType(operation)) {
+            case CHARGE -> userPoint.chargePoint(operation.getAmount());
+            case USE -> userPoint.usePoint(operation.getAmount());
+        }
+    }
+
+    private static TransactionType requireType(PointOperationDto operation) {
+
+        if (operation.getType() == null) {
+            throw new IllegalArgumentException("type은 필수입니다.");
+        }
+        return operation.getType();
+    }
+
+    /**
+     * 이미 반영된 변경을 되돌린다. 되돌리기도 실패하면 원래 예외를 가리지 않도록 기록하고 실패 수만 센다.
+     */
+    protected void compensate(Runnable compensation, long id) {
+
+        try {
+            compensation.run();
+        } catch (RuntimeException e) {
+            compensationFailures.increment();
+            log.error("Failed to compensate point change for user with ID: {}", id, e);
+        }
+    }
+
+    public long compensationFailureCount() {
+        return compensationFailures.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        FunctionCounter.builder("point.compensation.failures", this, AbstractPointService::compensationFailureCount)
+                .description("이력/잔액 저장 실패를 되돌리지 못한 횟수")
+                .register(registry);
+    }
+
+    protected static TransactionType reverse(TransactionType type) {
+        return type == TransactionType.CHARGE ? TransactionType.USE : TransactionType.CHARGE;
+    }
+
+    protected void validatePositiveAmount(long amount) {
+
+        if (amount < 0) {
+
+            log.error("Invalid amount: {}. Amount must be positive.", amount);
+            throw new NegativeValueException("Amount는 음수일 수 없습니다.");
+        }
+    }
+}
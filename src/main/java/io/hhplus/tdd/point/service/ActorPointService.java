@@ -0,0 +1,306 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.ActorEngineProperties;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResultDto;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointProcessingTimeoutException;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * userId 해시로 나눈 단일 스레드 이벤트 루프가 충전/사용을 처리하는 동시성 모드 (point.concurrency.mode=actor)
+ * - 한 유저의 명령은 항상 같은 파티션에서 순서대로 처리되므로 lock 이 필요 없다.
+ * - 이벤트 루프는 쌓인 명령을 한 번에 꺼내 유저별로 묶고, 잔액은 유저당 한 번만 조회/저장한다.
+ * - 요청 스레드는 CompletableFuture 로 결과를 awaitTimeout 까지만 기다린다.
+ * - 종료 후 남은 명령과 종료 중에 들어온 명령은 RejectedExecutionException 으로 완료한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "point.concurrency", name = "mode", havingValue = "actor")
+public class ActorPointService extends AbstractPointService implements DisposableBean {
+
+    private final Partition[] partitions;
+    private final int maxBatchSize;
+    private final long awaitTimeoutMillis;
+
+    public ActorPointService(PointHistoryRepository pointHistoryRepository,
+                             UserPointRepository userPointRepository,
+                             ActorEngineProperties properties) {
+        super(pointHistoryRepository, userPointRepository);
+        this.maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        this.awaitTimeoutMillis = properties.getAwaitTimeout().toMillis();
+
+        this.partitions = new Partition[Math.max(1, properties.getPartitions())];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition(i, properties.getMailboxCapacity());
+        }
+    }
+
+    @Override
+    public UserPoint chargePoint(UserPointDto userPointDto) {
+
+        long id = userPointDto.getId();
+        long amount = userPointDto.getAmount();
+        if (log.isDebugEnabled()) {
+            log.debug("Charging user with ID: {} by amount: {}", id, amount);
+        }
+
+        validatePositiveAmount(amount);
+
+        return await(submit(id, TransactionType.CHARGE, amount));
+    }
+
+    @Override
+    public UserPoint usePoint(UserPointDto userPointDto) {
+
+        long id = userPointDto.getId();
+        long amount = userPointDto.getAmount();
+        if (log.isDebugEnabled()) {
+            log.debug("Using points for user with ID: {} by amount: {}", id, amount);
+        }
+
+        validatePositiveAmount(amount);
+
+        return await(submit(id, TransactionType.USE, amount));
+    }
+
+    /**
+     * 명령을 유저의 파티션에 넣고, 반영이 끝나면 완료되는 CompletableFuture 를 반환한다.
+     * - 파티션 큐가 가득 차면 RejectedExecutionException 으로 완료된다.
+     */
+    public CompletableFuture<UserPoint> submit(long userId, TransactionType type, long amount) {
+
+        Command command = new Command(PointOperationDto.builder().userId(userId).type(type).amount(amount).build());
+        partitions[index(userId)].offer(command);
+
+        return command.result;
+    }
+
+    /**
+     * 한 유저의 요청들을 한꺼번에 파티션에 넣어 한 번의 조회/저장으로 합쳐지도록 한다.
+     */
+    @Override
+    protected List<PointOperationResultDto> applyUserBatch(long userId, List<PointOperationDto> operations) {
+
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>(operations.size());
+        for (PointOperationDto operation : operations) {
+            futures.add(submit(userId, operation.getType(), operation.getAmount()));
+        }
+
+        List<PointOperationResultDto> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            PointOperationDto operation = operations.get(i);
+            try {
+                results.add(PointOperationResultDto.success(operation, await(futures.get(i)).getPoint()));
+            } catch (RuntimeException e) {
+                results.add(PointOperationResultDto.failure(operation, getPoint(UserPointDto.builder().id(userId).build()).getPoint(), e));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        for (Partition partition : partitions) {
+            partition.stop();
+        }
+        for (Partition partition : partitions) {
+            partition.thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private int index(long userId) {
+
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(hash ^ (hash >>> 32), (long) partitions.length);
+    }
+
+    private UserPoint await(CompletableFuture<UserPoint> future) {
+
+        // 도메인 예외를 그대로 전달하기 위해 ExecutionException 을 벗긴다.
+        try {
+            return future.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new PointProcessingTimeoutException("포인트 처리 결과를 " + awaitTimeoutMillis + "ms 안에 받지 못했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 처리 결과를 기다리는 중 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 한 유저의 명령들을 순서대로 적용하고, 성공한 명령이 있으면 잔액을 한 번만 저장한 뒤 결과를 완료한다.
+     * - 각 명령은 복사본에 적용하고 이력 저장까지 성공해야 잔액에 반영한다.
+     * - 잔액 저장이 실패하면 반대 방향 이력을 남겨 저장된 이력을 상쇄하고, 모든 명령을 실패로 완료한다.
+     */
+    private void process(long userId, List<Command> commands) {
+
+        List<UserPoint> results = new ArrayList<>(commands.size());
+        List<RuntimeException> failures = new ArrayList<>(commands.size());
+        List<PointOperationDto> applied = new ArrayList<>(commands.size());
+
+        try {
+            UserPoint loaded = userPointRepository.selectById(userId);
+            long point = loaded.getPoint();
+
+            for (Command command : commands) {
+                try {
+                    UserPoint next = new UserPoint(userId, point, loaded.getUpdateMillis());
+                    apply(next, command.operation);
+                    pointHistoryRepository.create(userId, command.operation.getAmount(), command.operation.getType(), System.currentTimeMillis());
+                    point = next.getPoint();
+                    applied.add(command.operation);
+                    results.add(new UserPoint(userId, point, System.currentTimeMillis()));
+                    failures.add(null);
+                } catch (RuntimeException e) {
+                    results.add(null);
+                    failures.add(e);
+                }
+            }
+
+            if (!applied.isEmpty()) {
+                UserPoint updated;
+                try {
+                    updated = userPointRepository.update(userId, point);
+                } catch (RuntimeException e) {
+                    for (PointOperationDto operation : applied) {
+                        compensate(() -> pointHistoryRepository.create(userId, operation.getAmount(), reverse(operation.getType()), System.currentTimeMillis()), userId);
+                    }
+                    throw e;
+                }
+                // 마지막으로 성공한 명령은 저장된 결과를 그대로 돌려준다.
+                for (int i = results.size() - 1; i >= 0; i--) {
+                    if (results.get(i) != null) {
+                        results.set(i, updated);
+                        break;
+                    }
+                }
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Applied {} point commands for user with ID: {}, new balance: {}", commands.size(), userId, point);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to apply point commands for user with ID: {}", userId, e);
+            for (Command command : commands) {
+                command.result.completeExceptionally(e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < commands.size(); i++) {
+            if (failures.get(i) != null) {
+                commands.get(i).result.completeExceptionally(failures.get(i));
+            } else {
+                commands.get(i).result.complete(results.get(i));
+            }
+        }
+    }
+
+    private static final class Command {
+
+        private final PointOperationDto operation;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Command(PointOperationDto operation) {
+            this.operation = operation;
+        }
+    }
+
+    private final class Partition {
+
+        private final BlockingQueue<Command> mailbox;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        private Partition(int index, int mailboxCapacity) {
+            this.mailbox = new ArrayBlockingQueue<>(mailboxCapacity);
+            this.thread = new Thread(this::loop, "point-actor-" + index);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        /**
+         * 넣은 뒤에 종료 여부를 다시 확인한다. 루프가 이미 끝났다면 명령을 직접 꺼내 실패로 완료한다.
+         * (꺼내지 못했다면 루프나 마지막 정리가 가져간 것이므로 그쪽에서 완료된다)
+         */
+        private void offer(Command command) {
+
+            if (!running || !mailbox.offer(command)) {
+                command.result.completeExceptionally(new RejectedExecutionException("포인트 처리 요청이 너무 많습니다."));
+                return;
+            }
+            if (!running && mailbox.remove(command)) {
+                command.result.completeExceptionally(new RejectedExecutionException("포인트 처리가 종료되었습니다."));
+            }
+        }
+
+        private void stop() {
+            running = false;
+            thread.interrupt();
+        }
+
+        private void loop() {
+
+            List<Command> batch = new ArrayList<>(maxBatchSize);
+            try {
+                while (running || !mailbox.isEmpty()) {
+                    try {
+                        Command first = mailbox.poll(100, TimeUnit.MILLISECONDS);
+                        if (first == null) {
+                            continue;
+                        }
+                        batch.add(first);
+                        mailbox.drainTo(batch, maxBatchSize - 1);
+                    } catch (InterruptedException e) {
+                        // 종료 요청이면 남은 명령을 모두 처리한 뒤 루프를 빠져나간다.
+                        mailbox.drainTo(batch);
+                    }
+
+                    // 같은 유저의 명령은 들어온 순서대로 묶어서 처리한다.
+                    Map<Long, List<Command>> byUser = new LinkedHashMap<>();
+                    for (Command command : batch) {
+                        byUser.computeIfAbsent(command.operation.getUserId(), k -> new ArrayList<>()).add(command);
+                    }
+                    byUser.forEach(ActorPointService.this::process);
+                    batch.clear();
+                }
+            } finally {
+                // 루프가 끝난 뒤 남은 명령은 처리되지 않으므로 실패로 완료한다.
+                running = false;
+                batch.clear();
+                mailbox.drainTo(batch);
+                for (Command command : batch) {
+                    command.result.completeExceptionally(new RejectedExecutionException("포인트 처리가 종료되었습니다."));
+                }
+                if (!batch.isEmpty()) {
+                    log.warn("Rejected {} point commands left in {} on shutdown", batch.size(), thread.getName());
+                }
+            }
+        }
+    }
+}
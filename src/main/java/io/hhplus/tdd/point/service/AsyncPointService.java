@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PointService 의 비동기 버전
+ * - 실행이 거절되면 RejectedExecutionException, 시간 초과 시 TimeoutException 으로 완료된다.
+ */
+public interface AsyncPointService {
+
+    public CompletableFuture<UserPoint> getPoint(UserPointDto userPointDto);
+
+    public CompletableFuture<List<PointHistory>> getPointHistory(PointHistorySearchDto pointHistorySearchDto);
+
+    public CompletableFuture<UserPoint> chargePoint(UserPointDto userPointDto);
+
+    public CompletableFuture<UserPoint> usePoint(UserPointDto userPointDto);
+}
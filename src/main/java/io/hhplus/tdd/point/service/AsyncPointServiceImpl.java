@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.AsyncPointProperties;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * PointService 호출을 전용 bounded executor 에서 실행하는 비동기 서비스
+ * - 요청(servlet) 스레드는 테이블 I/O 를 기다리지 않고 바로 반환된다.
+ * - 대기 큐가 가득 차면 새 요청은 바로 거절되고, timeout 을 넘기면 TimeoutException 으로 완료된다.
+ * - timeout 은 응답만 끝낼 뿐 이미 시작된 충전/사용을 취소하지는 않는다.
+ * - 요청 DTO 를 그대로 @Primary PointService 에 넘기므로, Idempotency-Key 가 있으면 IdempotentPointService (point.idempotency.enabled) 가 중복 실행을 막는다.
+ *   (timeout 으로 응답받지 못한 클라이언트는 같은 키로 재시도해 처음 결과를 받을 수 있다)
+ */
+@Slf4j
+@Service
+public class AsyncPointServiceImpl implements AsyncPointService, DisposableBean {
+
+    private final PointService pointService;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public AsyncPointServiceImpl(PointService pointService, AsyncPointProperties properties) {
+        this.pointService = pointService;
+        this.timeoutMillis = properties.getTimeout().toMillis();
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getPoolSize(), properties.getPoolSize(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "point-async-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> getPoint(UserPointDto userPointDto) {
+        return execute(() -> pointService.getPoint(userPointDto));
+    }
+
+    @Override
+    public CompletableFuture<List<PointHistory>> getPointHistory(PointHistorySearchDto pointHistorySearchDto) {
+        return execute(() -> pointService.getPointHistory(pointHistorySearchDto));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> chargePoint(UserPointDto userPointDto) {
+        return execute(() -> pointService.chargePoint(userPointDto));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> usePoint(UserPointDto userPointDto) {
+        return execute(() -> pointService.usePoint(userPointDto));
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private <T> CompletableFuture<T> execute(Supplier<T> call) {
+
+        try {
+            return CompletableFuture.supplyAsync(call, executor)
+                    .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("Rejected async point request, queued: {}", executor.getQueue().size());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.collection.ConcurrentLongMap;
+import io.hhplus.tdd.point.config.CasConcurrencyProperties;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 유저별 잔액을 atomic cell 에 두고 CAS 로 충전/사용하는 lock-free 동시성 모드 (point.concurrency.mode=cas)
+ * - 한도/잔액 검증은 CAS 루프 안에서 UserPoint 의 검증 로직으로 수행한다.
+ * - 저장은 CAS 성공 후에 수행하며, 한 유저의 저장은 한 스레드가 맡아 순서대로 반영한다.
+ * - 각 변경은 이전 상태를 가리키므로, 저장을 맡은 스레드가 version 순서대로 내역을 남긴 뒤 최신 잔액을 저장한다.
+ *   (내역 순서는 잔액 변경 순서와 같고, 내역 저장이 실패하면 그 변경부터 다음 저장 때 다시 시도한다)
+ * - CAS 가 성공한 변경은 이미 반영된 것이므로 저장 실패를 요청 실패로 돌려주지 않는다.
+ *   실패한 cell 은 retryInterval 마다 백그라운드에서 다시 저장하고, 실패 수는 point.cas.persist.failures 로 노출한다.
+ * - cell 이 maxCells 를 넘으면 저장이 끝난 cell 을 제거한다. 제거된 cell 로 시작한 요청은 새 cell 로 다시 시도한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "point.concurrency", name = "mode", havingValue = "cas")
+public class CasPointService extends AbstractPointService implements DisposableBean {
+
+    // 제거된 cell 의 상태. 이 상태를 본 요청은 맵에서 새 cell 을 받아 다시 시도한다.
+    private static final Balance RETIRED = new Balance(0L, 0L, -1L, null, 0L, null);
+
+    private final ConcurrentLongMap<BalanceCell> cells = new ConcurrentLongMap<>();
+    // 저장에 실패해 다시 저장해야 하는 cell
+    private final ConcurrentLongMap<BalanceCell> unpersisted = new ConcurrentLongMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder persistFailures = new LongAdder();
+    private final ScheduledExecutorService retrier;
+    private final int maxCells;
+
+    public CasPointService(PointHistoryRepository pointHistoryRepository, UserPointRepository userPointRepository,
+                           CasConcurrencyProperties properties) {
+        super(pointHistoryRepository, userPointRepository);
+        this.maxCells = properties.getMaxCells();
+
+        long retryIntervalMillis = properties.getRetryInterval().toMillis();
+        this.retrier = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cas-point-persist-retrier");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.retrier.scheduleWithFixedDelay(this::persistAll, retryIntervalMillis, retryIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public UserPoint join(UserPointDto userPointDto) {
+
+        long id = userPointDto.getId();
+        long point = userPointDto.getPoint();
+        if (log.isDebugEnabled()) {
+            log.debug("User with ID: {} is joining with initial point: {}", id, point);
+        }
+
+        while (true) {
+            BalanceCell cell = cells.computeIfAbsent(id, BalanceCell::new);
+            Balance next = cell.reset(point);
+            if (next != null) {
+                persist(cell);
+                return next.toUserPoint(id);
+            }
+        }
+    }
+
+    @Override
+    public UserPoint getPoint(UserPointDto userPointDto) {
+
+        long id = userPointDto.getId();
+        if (log.isDebugEnabled()) {
+            log.debug("Fetching points for user with ID: {}", id);
+        }
+
+        while (true) {
+            Balance current = cell(id).state.get();
+            if (current != RETIRED) {
+                return current.toUserPoint(id);
+            }
+        }
+    }
+
+    @Override
+    public UserPoint chargePoint(UserPointDto userPointDto) {
+
+        long id = userPointDto.getId();
+        long amount = userPointDto.getAmount();
+        if (log.isDebugEnabled()) {
+            log.debug("Charging user with ID: {} by amount: {}", id, amount);
+        }
+
+        validatePositiveAmount(amount);
+
+        Balance next = apply(id, TransactionType.CHARGE, amount, userPoint -> userPoint.chargePoint(amount));
+        if (log.isDebugEnabled()) {
+            log.debug("Charged user with ID: {} successfully, new balance: {}", id, next.point());
+        }
+
+        return next.toUserPoint(id);
+    }
+
+    @Override
+    public UserPoint usePoint(UserPointDto userPointDto) {
+
+        long id = userPointDto.getId();
+        long amount = userPointDto.getAmount();
+        if (log.isDebugEnabled()) {
+            log.debug("Using points for user with ID: {} by amount: {}", id, amount);
+        }
+
+        validatePositiveAmount(amount);
+
+        Balance next = apply(id, TransactionType.USE, amount, userPoint -> userPoint.usePoint(amount));
+        if (log.isDebugEnabled()) {
+            log.debug("Used points for user with ID: {} successfully, new balance: {}", id, next.point());
+        }
+
+        return next.toUserPoint(id);
+    }
+
+    private Balance apply(long id, TransactionType type, long amount, Consumer<UserPoint> mutation) {
+
+        while (true) {
+            BalanceCell cell = cell(id);
+            Balance next = cell.apply(type, amount, mutation);
+            if (next != null) {
+                persist(cell);
+                return next;
+            }
+        }
+    }
+
+    private BalanceCell cell(long id) {
+
+        BalanceCell cell = cells.computeIfAbsent(id, BalanceCell::new);
+        if (cell.state.get() == null) {
+            if (cells.size() > maxCells) {
+                evictPersistedCells();
+            }
+            cell.load(userPointRepository);
+        }
+        return cell;
+    }
+
+    /**
+     * 내역과 잔액 저장이 끝난 cell 을 모두 제거한다. 동시에 한 스레드만 수행한다.
+     */
+    private void evictPersistedCells() {
+
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            cells.forEach((id, cell) -> cells.computeIfPresent(id, (key, current) -> current == cell && cell.retire() ? null : current));
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 저장에 실패했던 cell 을 모두 다시 저장한다.
+     */
+    public void persistAll() {
+
+        unpersisted.forEach((id, cell) -> {
+            unpersisted.computeIfPresent(id, (key, current) -> current == cell ? null : current);
+            persist(cell);
+        });
+    }
+
+    public long persistFailureCount() {
+        return persistFailures.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        super.bindTo(registry);
+        FunctionCounter.builder("point.cas.persist.failures", this, CasPointService::persistFailureCount)
+                .description("CAS 로 반영된 잔액/내역의 저장 실패 횟수 (백그라운드에서 다시 저장한다)")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+
+        retrier.shutdown();
+        retrier.awaitTermination(10, TimeUnit.SECONDS);
+
+        persistAll();
+        if (!unpersisted.isEmpty()) {
+            log.error("{} users still have unpersisted point changes on shutdown", unpersisted.size());
+        }
+    }
+
+    /**
+     * 저장 중인 스레드가 없을 때만 저장을 맡고, 저장하는 동안 생긴 변경은 맡은 스레드가 이어서 반영한다.
+     * 저장에 실패하면 예외를 호출자에게 돌려주지 않고 cell 을 다시 저장할 대상으로 남긴다.
+     */
+    private void persist(BalanceCell cell) {
+
+        while (cell.persisting.compareAndSet(false, true)) {
+            boolean failed = false;
+            try {
+                Balance latest = cell.state.get();
+                writeHistories(cell, latest);
+                if (latest.version() > cell.persistedVersion) {
+                    userPointRepository.update(cell.id, latest.point());
+                    cell.persistedVersion = latest.version();
+                }
+            } catch (RuntimeException e) {
+                persistFailures.increment();
+                failed = true;
+                log.error("Failed to persist point change for user with ID: {}, retrying in background", cell.id, e);
+            } finally {
+                cell.persisting.set(false);
+            }
+
+            // persisting 을 내려놓은 뒤에 남겨야 백그라운드 재시도가 저장을 넘겨받을 수 있다.
+            if (failed) {
+                unpersisted.put(cell.id, cell);
+                return;
+            }
+            if (cell.state.get().version() <= cell.persistedVersion) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 아직 내역을 남기지 않은 변경을 version 순서대로 저장한다. 저장을 맡은 스레드만 호출한다.
+     */
+    private void writeHistories(BalanceCell cell, Balance latest) {
+
+        Deque<Balance> changes = new ArrayDeque<>();
+        for (Balance change = latest; change != null && change.version() > cell.historyVersion; change = change.previous) {
+            changes.addFirst(change);
+        }
+
+        for (Balance change : changes) {
+            if (change.type() != null) {
+                pointHistoryRepository.create(cell.id, change.amount(), change.type(), change.updateMillis());
+            }
+            cell.historyVersion = change.version();
+        }
+        // 내역을 남긴 변경은 더 따라갈 필요가 없으므로 연결을 끊는다.
+        latest.previous = null;
+    }
+
+    private static final class BalanceCell {
+
+        private final long id;
+        private final AtomicReference<Balance> state = new AtomicReference<>();
+        private final AtomicBoolean persisting = new AtomicBoolean();
+        private final ReentrantLock loadLock = new ReentrantLock();
+        private volatile long historyVersion;
+        private volatile long persistedVersion;
+
+        private BalanceCell(long id) {
+            this.id = id;
+        }
+
+        private void load(UserPointRepository userPointRepository) {
+
+            loadLock.lock();
+            try {
+                if (state.get() == null) {
+                    UserPoint loaded = userPointRepository.selectById(id);
+                    state.compareAndSet(null, new Balance(loaded.getPoint(), loaded.getUpdateMillis(), 0L, null, 0L, null));
+                }
+            } finally {
+                loadLock.unlock();
+            }
+        }
+
+        /**
+         * 현재 잔액으로 만든 UserPoint 에 변경을 적용하고, 다른 스레드가 먼저 바꿨다면 다시 시도한다.
+         * 검증에 실패하면 예외가 그대로 전파되고 상태는 바뀌지 않는다. 제거된 cell 이면 null 을 반환한다.
+         */
+        private Balance apply(TransactionType type, long amount, Consumer<UserPoint> mutation) {
+
+            while (true) {
+                Balance current = state.get();
+                if (current == RETIRED) {
+                    return null;
+                }
+                UserPoint userPoint = current.toUserPoint(id);
+                mutation.accept(userPoint);
+
+                Balance next = new Balance(userPoint.getPoint(), System.currentTimeMillis(), current.version() + 1, type, amount, current);
+                if (state.compareAndSet(current, next)) {
+                    return next;
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        private Balance reset(long point) {
+
+            while (true) {
+                Balance current = state.get();
+                if (current == RETIRED) {
+                    return null;
+                }
+                long version = current == null ? 1L : current.version() + 1;
+
+                Balance next = new Balance(point, System.currentTimeMillis(), version, null, 0L, current);
+                if (state.compareAndSet(current, next)) {
+                    return next;
+                }
+            }
+        }
+
+        /**
+         * 내역과 잔액이 모두 저장된 상태에서만 RETIRED 로 바꾼다.
+         * 그 사이 새 변경이 생기면 CAS 가 실패하고, 저장 중인 스레드는 RETIRED 를 보면 저장할 것이 없으므로 그대로 끝난다.
+         */
+        private boolean retire() {
+
+            Balance current = state.get();
+            return current != null
+                    && current != RETIRED
+                    && current.version() == historyVersion
+                    && current.version() == persistedVersion
+                    && state.compareAndSet(current, RETIRED);
+        }
+    }
+
+    /**
+     * 변경 후 잔액과 그 변경 내용 (type 이 null 이면 내역을 남기지 않는 변경)
+     * - previous : 이전 상태, 내역을 남기면 저장을 맡은 스레드가 연결을 끊는다.
+     */
+    private static final class Balance {
+
+        private final long point;
+        private final long updateMillis;
+        private final long version;
+        private final TransactionType type;
+        private final long amount;
+        private Balance previous;
+
+        private Balance(long point, long updateMillis, long version, TransactionType type, long amount, Balance previous) {
+            this.point = point;
+            this.updateMillis = updateMillis;
+            this.version = version;
+            this.type = type;
+            this.amount = amount;
+            this.previous = previous;
+        }
+
+        private long point() {
+            return point;
+        }
+
+        private long updateMillis() {
+            return updateMillis;
+        }
+
+        private long version() {
+            return version;
+        }
+
+        private TransactionType type() {
+            return type;
+        }
+
+        private long amount() {
+            return amount;
+        }
+
+        private UserPoint toUserPoint(long id) {
+            return new UserPoint(id, point, updateMillis);
+        }
+    }
+}
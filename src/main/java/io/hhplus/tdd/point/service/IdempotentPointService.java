@@ -0,0 +1,183 @@
+package io.hhplus.tdd.point.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.point.config.PointIdempotencyProperties;
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResultDto;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.IdempotencyKeyReusedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 충전/사용 요청을 Idempotency-Key 로 한 번만 실행하는 데코레이터
+ * - 키가 없으면 그대로 실행하고, 있으면 처음 요청만 실행한다.
+ * - 실행 중인 요청은 크기 제한이 없는 맵에 두어 캐시 교체로 밀려나지 않게 하고, 성공하면 크기/시간 제한이 있는 캐시로 옮긴다.
+ * - 같은 키의 재시도는 보관된 결과를 바로 반환하고, 처음 요청이 아직 실행 중이면 그 결과를 기다린다.
+ * - 같은 키로 유저/유형/금액이 다른 요청이 오면 IdempotencyKeyReusedException 을 던진다.
+ * - 실패한 요청은 보관하지 않으므로 이후 재시도는 다시 실행된다. (기다리던 요청은 같은 예외를 받는다)
+ *   실패한 변경은 동시성 모드가 되돌리지만, 되돌리기까지 실패하면(point.compensation.failures) 변경이 남아 재시도가 한 번 더 반영될 수 있다.
+ * - 적중/실패/제거 수는 cache.* 메트릭(cache=point-idempotency)으로 노출된다. (실행 중인 요청은 포함하지 않는다)
+ */
+@Slf4j
+public class IdempotentPointService implements PointService {
+
+    private final PointService delegate;
+    private final ConcurrentMap<String, Execution> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, Execution> completed;
+
+    public IdempotentPointService(PointService delegate, PointIdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "point-idempotency");
+    }
+
+    @Override
+    public UserPoint join(UserPointDto userPointDto) {
+        return delegate.join(userPointDto);
+    }
+
+    @Override
+    public UserPoint getPoint(UserPointDto userPointDto) {
+        return delegate.getPoint(userPointDto);
+    }
+
+    @Override
+    public List<UserPoint> getPoints(List<Long> userIds) {
+        return delegate.getPoints(userIds);
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(PointHistoryDto pointHistoryDto) {
+        return delegate.getPointHistory(pointHistoryDto);
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(PointHistorySearchDto pointHistorySearchDto) {
+        return delegate.getPointHistory(pointHistorySearchDto);
+    }
+
+    @Override
+    public PointHistorySummary getPointHistorySummary(PointHistoryDto pointHistoryDto) {
+        return delegate.getPointHistorySummary(pointHistoryDto);
+    }
+
+    @Override
+    public void exportPointHistories(List<Long> userIds, Consumer<PointHistory> consumer) {
+        delegate.exportPointHistories(userIds, consumer);
+    }
+
+    @Override
+    public UserPoint chargePoint(UserPointDto userPointDto) {
+        return execute(userPointDto, TransactionType.CHARGE, () -> delegate.chargePoint(userPointDto));
+    }
+
+    @Override
+    public UserPoint usePoint(UserPointDto userPointDto) {
+        return execute(userPointDto, TransactionType.USE, () -> delegate.usePoint(userPointDto));
+    }
+
+    @Override
+    public List<PointOperationResultDto> processBatch(List<PointOperationDto> operations) {
+        return delegate.processBatch(operations);
+    }
+
+    private UserPoint execute(UserPointDto userPointDto, TransactionType type, Supplier<UserPoint> operation) {
+
+        String key = userPointDto.getIdempotencyKey();
+        if (key == null || key.isBlank()) {
+            return operation.get();
+        }
+
+        Execution execution = completed.getIfPresent(key);
+        if (execution == null) {
+            Execution created = new Execution(userPointDto.getId(), type, userPointDto.getAmount(), new CompletableFuture<>());
+            execution = inFlight.putIfAbsent(key, created);
+            if (execution == null) {
+                // 다른 요청이 완료 캐시로 옮긴 직후 실행 중 맵에 들어왔을 수 있으므로 한 번 더 확인한다.
+                execution = completed.getIfPresent(key);
+                if (execution == null) {
+                    return run(key, created, operation);
+                }
+                inFlight.remove(key, created);
+            }
+        }
+
+        if (!execution.matches(userPointDto.getId(), type, userPointDto.getAmount())) {
+            throw new IdempotencyKeyReusedException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Replaying {} for user with ID: {} by Idempotency-Key: {}", type, userPointDto.getId(), key);
+        }
+        return copy(await(execution));
+    }
+
+    /**
+     * 처음 요청을 실행한다. 성공하면 완료 캐시에 먼저 넣은 뒤 실행 중 맵에서 지워, 두 곳 모두에 없는 순간이 없도록 한다.
+     */
+    private UserPoint run(String key, Execution execution, Supplier<UserPoint> operation) {
+
+        UserPoint result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, execution);
+            execution.result().completeExceptionally(e);
+            throw e;
+        }
+
+        execution.result().complete(copy(result));
+        completed.put(key, execution);
+        inFlight.remove(key, execution);
+        return result;
+    }
+
+    private static UserPoint await(Execution execution) {
+
+        try {
+            return execution.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * UserPoint 는 충전/사용 시 값이 바뀌므로 보관한 객체를 그대로 내보내지 않는다.
+     */
+    private static UserPoint copy(UserPoint userPoint) {
+        return new UserPoint(userPoint.getId(), userPoint.getPoint(), userPoint.getUpdateMillis(), userPoint.getVersion());
+    }
+
+    /**
+     * 키별 처음 요청의 내용과 결과 (실행 중이면 완료되지 않은 future)
+     */
+    private record Execution(long userId, TransactionType type, long amount, CompletableFuture<UserPoint> result) {
+
+        private boolean matches(long userId, TransactionType type, long amount) {
+            return this.userId == userId && this.type == type && this.amount == amount;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResultDto;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import io.hhplus.tdd.point.exception.NegativeValueException;
+import io.hhplus.tdd.point.exception.PointLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * PointService 호출마다 처리 시간과 결과를 기록하는 데코레이터
+ * - point.service{operation, outcome} : 메서드별 처리 시간 (success | error)
+ * - point.exceptions{exception} : 도메인 예외 발생 횟수
+ * - point.summary 로거 : 호출당 한 건의 요약 이벤트 (operation, userId, outcome, elapsedMicros, exception)
+ */
+public class MeteredPointService implements PointService {
+
+    private static final Logger SUMMARY = LoggerFactory.getLogger("point.summary");
+    private static final long NO_USER = -1L;
+
+    private final PointService delegate;
+    private final MeterRegistry meterRegistry;
+
+    private final OperationTimers join;
+    private final OperationTimers getPoint;
+    private final OperationTimers getPoints;
+    private final OperationTimers getPointHistory;
+    private final OperationTimers getPointHistorySummary;
+    private final OperationTimers exportPointHistories;
+    private final OperationTimers chargePoint;
+    private final OperationTimers usePoint;
+    private final OperationTimers processBatch;
+
+    private final Counter insufficientPoint;
+    private final Counter pointLimitExceeded;
+    private final Counter negativeValue;
+
+    public MeteredPointService(PointService delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+
+        this.join = new OperationTimers("join");
+        this.getPoint = new OperationTimers("getPoint");
+        this.getPoints = new OperationTimers("getPoints");
+        this.getPointHistory = new OperationTimers("getPointHistory");
+        this.getPointHistorySummary = new OperationTimers("getPointHistorySummary");
+        this.exportPointHistories = new OperationTimers("exportPointHistories");
+        this.chargePoint = new OperationTimers("chargePoint");
+        this.usePoint = new OperationTimers("usePoint");
+        this.processBatch = new OperationTimers("processBatch");
+
+        this.insufficientPoint = exceptionCounter(InsufficientPointException.class);
+        this.pointLimitExceeded = exceptionCounter(PointLimitExceededException.class);
+        this.negativeValue = exceptionCounter(NegativeValueException.class);
+    }
+
+    @Override
+    public UserPoint join(UserPointDto userPointDto) {
+        return join.record(userPointDto.getId(), () -> delegate.join(userPointDto));
+    }
+
+    @Override
+    public UserPoint getPoint(UserPointDto userPointDto) {
+        return getPoint.record(userPointDto.getId(), () -> delegate.getPoint(userPointDto));
+    }
+
+    @Override
+    public List<UserPoint> getPoints(List<Long> userIds) {
+        return getPoints.record(NO_USER, () -> delegate.getPoints(userIds));
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(PointHistoryDto pointHistoryDto) {
+        return getPointHistory.record(pointHistoryDto.getUserId(), () -> delegate.getPointHistory(pointHistoryDto));
+    }
+
+    @Override
+    public List<PointHistory> getPointHistory(PointHistorySearchDto pointHistorySearchDto) {
+        return getPointHistory.record(pointHistorySearchDto.getUserId(), () -> delegate.getPointHistory(pointHistorySearchDto));
+    }
+
+    @Override
+    public PointHistorySummary getPointHistorySummary(PointHistoryDto pointHistoryDto) {
+        return getPointHistorySummary.record(pointHistoryDto.getUserId(), () -> delegate.getPointHistorySummary(pointHistoryDto));
+    }
+
+    @Override
+    public void exportPointHistories(List<Long> userIds, Consumer<PointHistory> consumer) {
+        exportPointHistories.record(NO_USER, () -> {
+            delegate.exportPointHistories(userIds, consumer);
+            return null;
+        });
+    }
+
+    @Override
+    public UserPoint chargePoint(UserPointDto userPointDto) {
+        return chargePoint.record(userPointDto.getId(), () -> delegate.chargePoint(userPointDto));
+    }
+
+    @Override
+    public UserPoint usePoint(UserPointDto userPointDto) {
+        return usePoint.record(userPointDto.getId(), () -> delegate.usePoint(userPointDto));
+    }
+
+    @Override
+    public List<PointOperationResultDto> processBatch(List<PointOperationDto> operations) {
+        return processBatch.record(NO_USER, () -> delegate.processBatch(operations));
+    }
+
+    private Counter exceptionCounter(Class<? extends RuntimeException> exceptionType) {
+
+        return Counter.builder("point.exceptions")
+                .tag("exception", exceptionType.getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private void countException(RuntimeException e) {
+
+        if (e instanceof InsufficientPointException) {
+            insufficientPoint.increment();
+        } else if (e instanceof PointLimitExceededException) {
+            pointLimitExceeded.increment();
+        } else if (e instanceof NegativeValueException) {
+            negativeValue.increment();
+        }
+    }
+
+    private final class OperationTimers {
+
+        private final String operation;
+        private final Timer success;
+        private final Timer error;
+
+        private OperationTimers(String operation) {
+            this.operation = operation;
+            this.success = meterRegistry.timer("point.service", "operation", operation, "outcome", "success");
+            this.error = meterRegistry.timer("point.service", "operation", operation, "outcome", "error");
+        }
+
+        private <T> T record(long userId, Supplier<T> call) {
+
+            long startedAt = System.nanoTime();
+            try {
+                T result = call.get();
+                long elapsed = System.nanoTime() - startedAt;
+                success.record(elapsed, TimeUnit.NANOSECONDS);
+                summarize(userId, "success", elapsed, null);
+                return result;
+            } catch (RuntimeException e) {
+                long elapsed = System.nanoTime() - startedAt;
+                error.record(elapsed, TimeUnit.NANOSECONDS);
+                countException(e);
+                summarize(userId, "error", elapsed, e);
+                throw e;
+            }
+        }
+
+        private void summarize(long userId, String outcome, long elapsedNanos, RuntimeException e) {
+
+            // 요약 로그가 꺼져 있으면 이벤트를 만들지 않는다.
+            if (!SUMMARY.isInfoEnabled()) {
+                return;
+            }
+
+            LoggingEventBuilder event = SUMMARY.atInfo()
+                    .addKeyValue("operation", operation)
+                    .addKeyValue("outcome", outcome)
+                    .addKeyValue("elapsedMicros", TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+            if (userId != NO_USER) {
+                event = event.addKeyValue("userId", userId);
+            }
+            if (e != null) {
+                event = event.addKeyValue("exception", e.getClass().getSimpleName());
+            }
+            event.log("point operation");
+        }
+    }
+}
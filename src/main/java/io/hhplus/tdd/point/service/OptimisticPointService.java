@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.OptimisticConcurrencyProperties;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * lock 없이 version 비교 update 로 충전/사용하는 동시성 모드 (point.concurrency.mode=optimistic)
+ * - 조회한 version 으로 update 하고, 다른 요청이 먼저 반영했다면 다시 조회해 재시도한다.
+ * - 재시도 전에는 지수적으로 늘어나는 상한 안에서 임의 시간만큼 대기한다. (point.concurrency.optimistic)
+ * - PointHistory 는 update 가 성공한 뒤에만 저장하므로 재시도로 인한 중복 이력은 남지 않는다.
+ * - 이력 저장이 실패하면 그 사이 다른 변경이 없을 때만 (version 비교 update) 잔액을 이전 값으로 되돌린다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "point.concurrency", name = "mode", havingValue = "optimistic")
+public class OptimisticPointService extends AbstractPointService {
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    public OptimisticPointService(PointHistoryRepository pointHistoryRepository,
+                                  UserPointRepository userPointRepository,
+                                  OptimisticConcurrencyProperties properties) {
+        super(pointHistoryRepository, userPointRepository);
+        this.maxAttempts = Math.max(1, properties.getMaxAttempts());
+        this.initialBackoffNanos = properties.getInitialBackoff().toNanos();
+        this.maxBackoffNanos = properties.getMaxBackoff().toNanos();
+    }
+
+    @Override
+    public UserPoint chargePoint(UserPointDto userPointDto) {
+
+        long id = userPointDto.getId();
+        long amount = userPointDto.getAmount();
+        if (log.isDebugEnabled()) {
+            log.debug("Charging user with ID: {} by amount: {}", id, amount);
+        }
+
+        validatePositiveAmount(amount);
+
+        return mutate(id, amount, TransactionType.CHARGE);
+    }
+
+    @Override
+    public UserPoint usePoint(UserPointDto userPointDto) {
+
+        long id = userPointDto.getId();
+        long amount = userPointDto.getAmount();
+        if (log.isDebugEnabled()) {
+            log.debug("Using points for user with ID: {} by amount: {}", id, amount);
+        }
+
+        validatePositiveAmount(amount);
+
+        return mutate(id, amount, TransactionType.USE);
+    }
+
+    private UserPoint mutate(long id, long amount, TransactionType type) {
+
+        for (int attempt = 1; ; attempt++) {
+            UserPoint userPoint = userPointRepository.selectById(id);
+            long previousPoint = userPoint.getPoint();
+            switch (type) {
+                case CHARGE -> userPoint.chargePoint(amount);
+                case USE -> userPoint.usePoint(amount);
+            }
+
+            try {
+                UserPoint updated = userPointRepository.update(id, userPoint.getVersion(), userPoint.getPoint());
+                try {
+                    pointHistoryRepository.create(id, amount, type, System.currentTimeMillis());
+                } catch (RuntimeException e) {
+                    // 그 사이 다른 요청이 잔액을 바꿨다면 version 이 달라 되돌리지 못하고 실패 수로 남는다.
+                    compensate(() -> userPointRepository.update(id, updated.getVersion(), previousPoint), id);
+                    throw e;
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug("Updated user with ID: {} after {} attempts, new balance: {}", id, attempt, updated.getPoint());
+                }
+
+                return updated;
+            } catch (PointVersionConflictException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Gave up updating user with ID: {} after {} conflicting attempts", id, attempt);
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+
+        // 재시도마다 상한을 두 배로 늘리되 maxBackoff 를 넘지 않게 하고, 그 안에서 임의로 대기해 재충돌을 줄인다.
+        long bound = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attempt - 1, 20));
+        if (bound > 0) {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(bound) + 1);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package io.hhplus.tdd.point.service;
 
 import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResultDto;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
 import io.hhplus.tdd.point.dto.UserPointDto;
 import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
 import io.hhplus.tdd.point.entity.UserPoint;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PointService {
 
@@ -13,9 +18,19 @@ public interface PointService {
 
     public UserPoint getPoint(UserPointDto userPointDto);
 
+    public List<UserPoint> getPoints(List<Long> userIds);
+
     public List<PointHistory> getPointHistory(PointHistoryDto PointHistoryDto);
 
+    public List<PointHistory> getPointHistory(PointHistorySearchDto pointHistorySearchDto);
+
+    public PointHistorySummary getPointHistorySummary(PointHistoryDto pointHistoryDto);
+
+    public void exportPointHistories(List<Long> userIds, Consumer<PointHistory> consumer);
+
     public UserPoint chargePoint(UserPointDto userPointDto);
 
     public UserPoint usePoint(UserPointDto userPointDto);
+
+    public List<PointOperationResultDto> processBatch(List<PointOperationDto> operations);
 }
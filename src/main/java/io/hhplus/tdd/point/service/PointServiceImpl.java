@@ -1,59 +1,47 @@
 package io.hhplus.tdd.point.service;
 
-import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResultDto;
 import io.hhplus.tdd.point.dto.UserPointDto;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.TransactionType;
 import io.hhplus.tdd.point.entity.UserPoint;
-import io.hhplus.tdd.point.exception.NegativeValueException;
+import io.hhplus.tdd.point.lock.PointLockRegistry;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 유저별 lock 으로 충전/사용을 직렬화하는 기본 동시성 모드 (point.concurrency.mode=lock)
+ * - lock 은 PointLockRegistry 에서 발급받는다. (point.lock.registry)
+ * - 서로 다른 테이블에 쓰는 이력 저장과 잔액 저장은 동시에 수행하고, 한쪽만 실패하면 다른 쪽을 되돌린다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class PointServiceImpl implements PointService {
-
-    private final PointHistoryRepository pointHistoryRepository;
-    private final UserPointRepository userPointRepository;
-
-    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
-
-    @Override
-    public UserPoint join(UserPointDto userPointDto) {
-
-        long id = userPointDto.getId();
-        long point = userPointDto.getPoint();
-        log.info("User with ID: {} is joining with initial point: {}", id, point);
-
-        return userPointRepository.create(id, point);
-    }
-
-    @Override
-    public UserPoint getPoint(UserPointDto userPointDto) {
-
-        long id = userPointDto.getId();
-        log.info("Fetching points for user with ID: {}", id);
-        return userPointRepository.selectById(id);
-    }
-
-    @Override
-    public List<PointHistory> getPointHistory(PointHistoryDto pointHistoryDto) {
-
-        long userId = pointHistoryDto.getUserId();
-        log.info("Retrieving point history for user with ID: {}", userId);
-
-        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(userId);
-        log.info("Found {} point history records for user with ID: {}", histories.size(), userId);
-
-        return histories;
+@ConditionalOnProperty(prefix = "point.concurrency", name = "mode", havingValue = "lock", matchIfMissing = true)
+public class PointServiceImpl extends AbstractPointService implements DisposableBean {
+
+    private final PointLockRegistry lockRegistry;
+    private final ExecutorService fanOutExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("point-fan-out-", 0).factory());
+
+    public PointServiceImpl(PointHistoryRepository pointHistoryRepository,
+                            UserPointRepository userPointRepository,
+                            PointLockRegistry lockRegistry) {
+        super(pointHistoryRepository, userPointRepository);
+        this.lockRegistry = lockRegistry;
     }
 
     @Override
@@ -61,22 +49,26 @@ public class PointServiceImpl implements PointService {
 
         long id = userPointDto.getId();
         long amount = userPointDto.getAmount();
-        log.info("Charging user with ID: {} by amount: {}", id, amount);
+        if (log.isDebugEnabled()) {
+            log.debug("Charging user with ID: {} by amount: {}", id, amount);
+        }
 
         validatePositiveAmount(amount);
 
-        ReentrantLock lock = lockMap.computeIfAbsent(id, k -> new ReentrantLock(true));
-        lock.lock();
+        Lock lock = lockRegistry.acquire(id);
         try {
             UserPoint userPoint = getPoint(userPointDto);
+            long previousPoint = userPoint.getPoint();
             userPoint.chargePoint(amount);
 
-            pointHistoryRepository.create(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
-            log.info("Charged user with ID: {} successfully, new balance: {}", id, userPoint.getPoint());
+            UserPoint updated = persist(id, previousPoint, userPoint.getPoint(), amount, TransactionType.CHARGE);
+            if (log.isDebugEnabled()) {
+                log.debug("Charged user with ID: {} successfully, new balance: {}", id, userPoint.getPoint());
+            }
 
-            return userPointRepository.update(userPoint.getId(), userPoint.getPoint());
+            return updated;
         } finally {
-            lock.unlock();
+            lockRegistry.release(id, lock);
         }
     }
 
@@ -85,31 +77,126 @@ public class PointServiceImpl implements PointService {
 
         long id = userPointDto.getId();
         long amount = userPointDto.getAmount();
-        log.info("Using points for user with ID: {} by amount: {}", id, amount);
+        if (log.isDebugEnabled()) {
+            log.debug("Using points for user with ID: {} by amount: {}", id, amount);
+        }
 
         validatePositiveAmount(amount);
 
-        ReentrantLock lock = lockMap.computeIfAbsent(id, k -> new ReentrantLock(true));
-        lock.lock();
+        Lock lock = lockRegistry.acquire(id);
         try {
             UserPoint userPoint = getPoint(userPointDto);
+            long previousPoint = userPoint.getPoint();
             userPoint.usePoint(amount);
 
-            pointHistoryRepository.create(id, amount, TransactionType.USE, System.currentTimeMillis());
-            log.info("Used points for user with ID: {} successfully, new balance: {}", id, userPoint.getPoint());
+            UserPoint updated = persist(id, previousPoint, userPoint.getPoint(), amount, TransactionType.USE);
+            if (log.isDebugEnabled()) {
+                log.debug("Used points for user with ID: {} successfully, new balance: {}", id, userPoint.getPoint());
+            }
 
-            return userPointRepository.update(userPoint.getId(), userPoint.getPoint());
+            return updated;
         } finally {
-            lock.unlock();
+            lockRegistry.release(id, lock);
         }
     }
 
-    private void validatePositiveAmount(long amount) {
+    /**
+     * 진행 중인 이력 저장이 끝날 때까지 기다린 뒤 fan-out executor 를 종료한다.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+
+        fanOutExecutor.shutdown();
+        fanOutExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 이력 저장과 잔액 저장을 동시에 수행하고 둘 다 끝나면 반환한다.
+     * - 잔액 저장만 실패하면 반대 방향 이력을 남겨 저장된 이력을 상쇄한다.
+     * - 이력 저장만 실패하면 잔액을 이전 값으로 되돌린다.
+     */
+    private UserPoint persist(long id, long previousPoint, long newPoint, long amount, TransactionType type) {
+
+        CompletableFuture<PointHistory> history = CompletableFuture.supplyAsync(
+                () -> pointHistoryRepository.create(id, amount, type, System.currentTimeMillis()), fanOutExecutor);
+
+        UserPoint updated;
+        try {
+            updated = userPointRepository.update(id, newPoint);
+        } catch (RuntimeException e) {
+            if (awaitHistory(history) == null) {
+                compensate(() -> pointHistoryRepository.create(id, amount, reverse(type), System.currentTimeMillis()), id);
+            }
+            throw e;
+        }
+
+        RuntimeException historyFailure = awaitHistory(history);
+        if (historyFailure != null) {
+            compensate(() -> userPointRepository.update(id, previousPoint), id);
+            throw historyFailure;
+        }
+        return updated;
+    }
+
+    /**
+     * 이력 저장이 끝날 때까지 기다리고, 실패했다면 그 예외를 반환한다.
+     */
+    private static RuntimeException awaitHistory(CompletableFuture<PointHistory> history) {
+
+        try {
+            history.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 한 유저의 요청들을 한 번의 lock 획득 안에서 순서대로 적용하고, 잔액은 마지막에 한 번만 저장한다.
+     * - 각 요청은 복사본에 적용하고 이력 저장까지 성공해야 잔액에 반영한다.
+     * - 마지막 잔액 저장이 실패하면 반대 방향 이력을 남겨 저장된 이력을 상쇄한다.
+     */
+    @Override
+    protected List<PointOperationResultDto> applyUserBatch(long userId, List<PointOperationDto> operations) {
 
-        if (amount < 0) {
+        List<PointOperationResultDto> results = new ArrayList<>(operations.size());
+        List<PointOperationDto> applied = new ArrayList<>(operations.size());
 
-            log.error("Invalid amount: {}. Amount must be positive.", amount);
-            throw new NegativeValueException("Amount는 음수일 수 없습니다.");
+        Lock lock = lockRegistry.acquire(userId);
+        try {
+            UserPoint loaded = userPointRepository.selectById(userId);
+            long point = loaded.getPoint();
+
+            for (PointOperationDto operation : operations) {
+                try {
+                    UserPoint next = new UserPoint(userId, point, loaded.getUpdateMillis());
+                    apply(next, operation);
+                    pointHistoryRepository.create(userId, operation.getAmount(), operation.getType(), System.currentTimeMillis());
+                    point = next.getPoint();
+                    applied.add(operation);
+                    results.add(PointOperationResultDto.success(operation, point));
+                } catch (RuntimeException e) {
+                    results.add(PointOperationResultDto.failure(operation, point, e));
+                }
+            }
+
+            if (!applied.isEmpty()) {
+                try {
+                    userPointRepository.update(userId, point);
+                } catch (RuntimeException e) {
+                    for (PointOperationDto operation : applied) {
+                        compensate(() -> pointHistoryRepository.create(userId, operation.getAmount(), reverse(operation.getType()), System.currentTimeMillis()), userId);
+                    }
+                    throw e;
+                }
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Applied {} point operations for user with ID: {}, new balance: {}", operations.size(), userId, point);
+            }
+
+            return results;
+        } finally {
+            lockRegistry.release(userId, lock);
         }
     }
 }
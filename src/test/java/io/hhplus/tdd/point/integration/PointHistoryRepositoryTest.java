@@ -1,6 +1,8 @@
 package io.hhplus.tdd.point.integration;
 
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
 import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
 import io.hhplus.tdd.point.entity.TransactionType;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -55,4 +57,48 @@ public class PointHistoryRepositoryTest {
         assertThat(histories).contains(pointHistory_1);
         assertThat(histories).contains(pointHistory_2);
     }
+
+    @DisplayName("cursor/limit/type 조건으로 조회 시 cursor 이후의 조건에 맞는 내역을 limit 만큼 반환해야한다.")
+    @Test
+    void selectByUserIdWithCondition() {
+        // given
+        long userId = 4L;
+        PointHistory charge_1 = repository.create(userId, POINT, TransactionType.CHARGE, System.currentTimeMillis());
+        repository.create(userId, POINT, TransactionType.USE, System.currentTimeMillis());
+        PointHistory charge_2 = repository.create(userId, POINT, TransactionType.CHARGE, System.currentTimeMillis());
+        PointHistory charge_3 = repository.create(userId, POINT, TransactionType.CHARGE, System.currentTimeMillis());
+
+        // when
+        List<PointHistory> histories = repository.selectByUserId(userId, PointHistorySearchDto.builder()
+                .userId(userId)
+                .cursor(charge_1.id())
+                .limit(1)
+                .type(TransactionType.CHARGE)
+                .build());
+
+        // then
+        assertThat(histories).containsExactly(charge_2);
+        assertThat(histories).doesNotContain(charge_3);
+    }
+
+    @DisplayName("내역 생성 시 유저별 충전/사용 합계, 건수, 첫/마지막 시각이 함께 집계되어야한다.")
+    @Test
+    void selectSummaryByUserId() {
+        // given
+        long userId = 5L;
+        repository.create(userId, 300L, TransactionType.CHARGE, 10L);
+        repository.create(userId, 100L, TransactionType.USE, 20L);
+        repository.create(userId, 200L, TransactionType.CHARGE, 30L);
+
+        // when
+        PointHistorySummary summary = repository.selectSummaryByUserId(userId);
+
+        // then
+        assertThat(summary.totalCharged()).isEqualTo(500L);
+        assertThat(summary.totalUsed()).isEqualTo(100L);
+        assertThat(summary.count(TransactionType.CHARGE)).isEqualTo(2L);
+        assertThat(summary.count(TransactionType.USE)).isEqualTo(1L);
+        assertThat(summary.firstUpdateMillis()).isEqualTo(10L);
+        assertThat(summary.lastUpdateMillis()).isEqualTo(30L);
+    }
 }
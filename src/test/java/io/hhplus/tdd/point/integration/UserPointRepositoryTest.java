@@ -1,13 +1,17 @@
 package io.hhplus.tdd.point.integration;
 
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 @SpringBootTest
 public class UserPointRepositoryTest {
@@ -31,4 +35,35 @@ public class UserPointRepositoryTest {
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(userPoint);
     }
+
+    @DisplayName("조회 이후 다른 변경이 반영됐다면 조회한 version 으로의 update 는 PointVersionConflictException이 발생해야한다.")
+    @Test
+    void updateWithStaleVersion() {
+        // given
+        long userId = 2L;
+        repository.create(userId, POINT);
+        UserPoint read = repository.selectById(userId);
+        UserPoint updated = repository.update(userId, read.getVersion(), POINT + 100L);
+
+        // when & then
+        assertThat(updated.getVersion()).isEqualTo(read.getVersion() + 1);
+        assertThatThrownBy(() -> repository.update(userId, read.getVersion(), POINT + 200L))
+                .isInstanceOf(PointVersionConflictException.class);
+        assertThat(repository.selectById(userId).getPoint()).isEqualTo(POINT + 100L);
+    }
+
+    @DisplayName("여러 유저를 한 번에 조회하면 요청한 id 순서대로 각 유저의 point값을 반환해야한다.")
+    @Test
+    void selectByIds() {
+        // given
+        repository.create(11L, 100L);
+        repository.create(12L, 200L);
+
+        // when
+        List<UserPoint> result = repository.selectByIds(List.of(12L, 13L, 11L));
+
+        // then
+        assertThat(result).extracting(UserPoint::getId).containsExactly(12L, 13L, 11L);
+        assertThat(result).extracting(UserPoint::getPoint).containsExactly(200L, 0L, 100L);
+    }
 }
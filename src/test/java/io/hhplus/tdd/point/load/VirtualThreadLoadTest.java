@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.load;
+
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * virtual thread 모드에서 동시 처리 요청 수가 platform thread pool 크기(기본 200)를 넘어서는지 확인하는 부하 테스트
+ * - ./gradlew loadTest 로 실행하며, carrier thread 가 pinning 되면 stdout 에 스택이 출력된다.
+ */
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "server.tomcat.threads.max=200"
+        })
+class VirtualThreadLoadTest {
+
+    private static final int REQUESTS = 2_000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private InFlightCounter inFlightCounter;
+
+    @DisplayName("virtual thread 모드에서는 동시에 처리 중인 요청 수가 platform thread pool 크기를 넘어야한다.")
+    @Test
+    void concurrencyScalesPastPlatformPool() {
+        // given
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        // when - 서로 다른 유저를 조회해 모든 요청이 UserPointTable throttle 을 거치도록 한다.
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 1; i <= REQUESTS; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + (100_000 + i))).build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(responses).allSatisfy(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+        assertThat(inFlightCounter.max()).isGreaterThan(PLATFORM_POOL_SIZE);
+    }
+
+    @TestConfiguration
+    static class LoadTestConfig {
+
+        @Bean
+        InFlightCounter inFlightCounter() {
+            return new InFlightCounter();
+        }
+
+        @Bean
+        Filter inFlightFilter(InFlightCounter inFlightCounter) {
+            return (request, response, chain) -> {
+                inFlightCounter.enter();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    inFlightCounter.exit();
+                }
+            };
+        }
+    }
+
+    static class InFlightCounter {
+
+        private final AtomicInteger current = new AtomicInteger();
+        private final AtomicInteger max = new AtomicInteger();
+
+        void enter() {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+        }
+
+        void exit() {
+            current.decrementAndGet();
+        }
+
+        int max() {
+            return max.get();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.config.ActorEngineProperties;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import io.hhplus.tdd.point.exception.PointProcessingTimeoutException;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.ActorPointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class ActorPointServiceTest {
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    private UserPointRepository userPointRepository;
+
+    private ActorPointService pointService;
+
+    private final static long userId = 1L;
+    private final static long initialPoint = 1000L;
+
+    private final AtomicLong storedPoint = new AtomicLong(initialPoint);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        ActorEngineProperties properties = new ActorEngineProperties();
+        properties.setPartitions(2);
+        pointService = new ActorPointService(pointHistoryRepository, userPointRepository, properties);
+
+        given(userPointRepository.selectById(userId))
+                .willAnswer(invocation -> new UserPoint(userId, storedPoint.get(), System.currentTimeMillis()));
+        given(userPointRepository.update(eq(userId), anyLong())).willAnswer(invocation -> {
+            storedPoint.set(invocation.getArgument(1));
+            return new UserPoint(userId, storedPoint.get(), System.currentTimeMillis());
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointService.destroy();
+    }
+
+    @DisplayName("한 유저에 몰린 충전 요청은 모두 반영되고, 잔액 저장은 요청 수보다 적게 합쳐져야한다.")
+    @Test
+    void coalescesCommandsForSameUser() throws InterruptedException {
+        // given - 첫 조회가 끝나기 전까지 명령이 쌓이도록 조회를 잠시 막아둔다.
+        CountDownLatch release = new CountDownLatch(1);
+        given(userPointRepository.selectById(userId)).willAnswer(invocation -> {
+            release.await();
+            return new UserPoint(userId, storedPoint.get(), System.currentTimeMillis());
+        });
+        long chargeAmount = 10L;
+
+        // when
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(pointService.submit(userId, TransactionType.CHARGE, chargeAmount));
+        }
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(storedPoint.get()).isEqualTo(initialPoint + chargeAmount * 100);
+        then(userPointRepository).should(atMost(2)).update(eq(userId), anyLong());
+        then(pointHistoryRepository).should(times(100)).create(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong());
+    }
+
+    @DisplayName("잔액이 부족한 사용 요청은 해당 명령만 실패하고 저장하지 않아야한다.")
+    @Test
+    void usePoint_whenInsufficientPoints_throwsException() {
+        // when & then
+        assertThatThrownBy(() -> pointService.usePoint(UserPointDto.builder().id(userId).amount(initialPoint + 1).build()))
+                .isInstanceOf(InsufficientPointException.class);
+
+        assertThat(storedPoint.get()).isEqualTo(initialPoint);
+        then(userPointRepository).should(never()).update(anyLong(), anyLong());
+        then(pointHistoryRepository).should(never()).create(anyLong(), anyLong(), eq(TransactionType.USE), anyLong());
+    }
+
+    @DisplayName("이력 저장이 실패한 명령은 잔액에 반영되지 않아야한다.")
+    @Test
+    void chargePoint_whenHistoryFails_keepsBalance() {
+        // given
+        given(pointHistoryRepository.create(anyLong(), anyLong(), eq(TransactionType.CHARGE), anyLong()))
+                .willThrow(new IllegalStateException("history failure"));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.chargePoint(UserPointDto.builder().id(userId).amount(100L).build()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(storedPoint.get()).isEqualTo(initialPoint);
+        then(userPointRepository).should(never()).update(anyLong(), anyLong());
+    }
+
+    @DisplayName("잔액 저장이 실패하면 반대 방향 이력으로 저장된 이력을 상쇄해야한다.")
+    @Test
+    void usePoint_whenUpdateFails_reversesHistory() {
+        // given
+        given(userPointRepository.update(eq(userId), anyLong())).willThrow(new IllegalStateException("update failure"));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.usePoint(UserPointDto.builder().id(userId).amount(100L).build()))
+                .isInstanceOf(IllegalStateException.class);
+
+        then(pointHistoryRepository).should().create(eq(userId), eq(100L), eq(TransactionType.USE), anyLong());
+        then(pointHistoryRepository).should().create(eq(userId), eq(100L), eq(TransactionType.CHARGE), anyLong());
+    }
+
+    @DisplayName("처리 결과를 awaitTimeout 안에 받지 못하면 PointProcessingTimeoutException이 발생해야한다.")
+    @Test
+    void chargePoint_whenProcessingIsSlow_timesOut() throws InterruptedException {
+        // given
+        ActorEngineProperties properties = new ActorEngineProperties();
+        properties.setPartitions(1);
+        properties.setAwaitTimeout(Duration.ofMillis(50));
+        ActorPointService slowService = new ActorPointService(pointHistoryRepository, userPointRepository, properties);
+        CountDownLatch release = new CountDownLatch(1);
+        given(userPointRepository.selectById(userId)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new UserPoint(userId, storedPoint.get(), System.currentTimeMillis());
+        });
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> slowService.chargePoint(UserPointDto.builder().id(userId).amount(100L).build()))
+                    .isInstanceOf(PointProcessingTimeoutException.class);
+        } finally {
+            release.countDown();
+            slowService.destroy();
+        }
+    }
+
+    @DisplayName("종료된 뒤 들어온 명령은 처리되지 않고 RejectedExecutionException으로 완료되어야한다.")
+    @Test
+    void submitAfterDestroy_isRejected() throws InterruptedException {
+        // given
+        pointService.destroy();
+
+        // when
+        CompletableFuture<UserPoint> result = pointService.submit(userId, TransactionType.CHARGE, 100L);
+
+        // then
+        assertThat(result).isCompletedExceptionally();
+        assertThatThrownBy(result::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        then(userPointRepository).should(never()).selectById(userId);
+    }
+}
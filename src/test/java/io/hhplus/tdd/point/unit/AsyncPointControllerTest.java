@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.controller.AsyncPointController;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.service.AsyncPointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AsyncPointController.class)
+class AsyncPointControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AsyncPointService asyncPointService;
+
+    @DisplayName("/async/point/{id}/charge api 요청 시 비동기로 처리된 UserPointDto를 반환해야한다.")
+    @Test
+    void charge() throws Exception {
+        // given
+        when(asyncPointService.chargePoint(any(UserPointDto.class)))
+                .thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 200L, System.currentTimeMillis())));
+
+        // when
+        MvcResult result = mockMvc.perform(patch("/async/point/1/charge")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("100"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.point").value(200L));
+    }
+
+    @DisplayName("/async/point/{id}/charge api 요청 시 Idempotency-Key 헤더를 서비스로 전달해야한다.")
+    @Test
+    void chargeWithIdempotencyKey() throws Exception {
+        // given
+        when(asyncPointService.chargePoint(any(UserPointDto.class)))
+                .thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 200L, System.currentTimeMillis())));
+
+        // when
+        MvcResult result = mockMvc.perform(patch("/async/point/1/charge")
+                        .header("Idempotency-Key", "charge-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("100"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.idempotencyKey").doesNotExist());
+
+        // then
+        ArgumentCaptor<UserPointDto> captor = ArgumentCaptor.forClass(UserPointDto.class);
+        verify(asyncPointService).chargePoint(captor.capture());
+        assertThat(captor.getValue().getIdempotencyKey()).isEqualTo("charge-1");
+        assertThat(captor.getValue().getAmount()).isEqualTo(100L);
+    }
+
+    @DisplayName("/async/point/{id}/use api 요청 시 Idempotency-Key 헤더를 서비스로 전달해야한다.")
+    @Test
+    void useWithIdempotencyKey() throws Exception {
+        // given
+        when(asyncPointService.usePoint(any(UserPointDto.class)))
+                .thenReturn(CompletableFuture.completedFuture(new UserPoint(1L, 50L, System.currentTimeMillis())));
+
+        // when
+        MvcResult result = mockMvc.perform(patch("/async/point/1/use")
+                        .header("Idempotency-Key", "use-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("50"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(50L));
+
+        // then
+        ArgumentCaptor<UserPointDto> captor = ArgumentCaptor.forClass(UserPointDto.class);
+        verify(asyncPointService).usePoint(captor.capture());
+        assertThat(captor.getValue().getIdempotencyKey()).isEqualTo("use-1");
+        assertThat(captor.getValue().getAmount()).isEqualTo(50L);
+    }
+
+    @DisplayName("실행이 거절되면 503을 반환해야한다.")
+    @Test
+    void rejected() throws Exception {
+        // given
+        when(asyncPointService.getPoint(any(UserPointDto.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("rejected")));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/async/point/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("503"));
+    }
+
+    @DisplayName("처리 시간이 초과되면 504를 반환해야한다.")
+    @Test
+    void timeout() throws Exception {
+        // given
+        when(asyncPointService.usePoint(any(UserPointDto.class)))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        // when
+        MvcResult result = mockMvc.perform(patch("/async/point/1/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("100"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.code").value("504"));
+    }
+}
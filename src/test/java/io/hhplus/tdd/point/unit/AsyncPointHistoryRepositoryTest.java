@@ -0,0 +1,153 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.config.HistoryPipelineProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.repository.AsyncPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class AsyncPointHistoryRepositoryTest {
+
+    @Mock
+    private PointHistoryRepository delegate;
+
+    private AsyncPointHistoryRepository repository;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicLong tableIds = new AtomicLong();
+
+    private final static long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        given(delegate.create(anyLong(), anyLong(), eq(TransactionType.CHARGE), anyLong())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new PointHistory(tableIds.incrementAndGet(), invocation.getArgument(0), invocation.getArgument(1), TransactionType.CHARGE, invocation.getArgument(3));
+        });
+        given(delegate.selectAllByUserId(anyLong())).willReturn(List.of());
+        given(delegate.selectSummaryByUserId(anyLong())).willAnswer(invocation -> PointHistorySummary.empty(invocation.getArgument(0)));
+
+        repository = new AsyncPointHistoryRepository(delegate, new HistoryPipelineProperties());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        repository.destroy();
+    }
+
+    @DisplayName("저장되지 않은 내역도 조회 결과에 순서대로 포함되어야한다.")
+    @Test
+    void selectAllByUserId_includesPendingHistories() {
+        // given
+        PointHistory first = repository.create(userId, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        PointHistory second = repository.create(userId, 200L, TransactionType.CHARGE, System.currentTimeMillis());
+
+        // when
+        List<PointHistory> histories = repository.selectAllByUserId(userId);
+
+        // then
+        assertThat(histories).containsExactly(first, second);
+    }
+
+    @DisplayName("저장되지 않은 내역도 집계에 포함되어야한다.")
+    @Test
+    void selectSummaryByUserId_includesPendingHistories() {
+        // given
+        repository.create(userId, 100L, TransactionType.CHARGE, 1L);
+        repository.create(userId, 200L, TransactionType.CHARGE, 2L);
+
+        // when
+        PointHistorySummary summary = repository.selectSummaryByUserId(userId);
+
+        // then
+        assertThat(summary.totalCharged()).isEqualTo(300L);
+        assertThat(summary.chargeCount()).isEqualTo(2L);
+        assertThat(summary.firstUpdateMillis()).isEqualTo(1L);
+        assertThat(summary.lastUpdateMillis()).isEqualTo(2L);
+    }
+
+    @DisplayName("적재된 내역은 writer 가 적재 순서대로 저장해야한다.")
+    @Test
+    void create_persistsInEnqueueOrder() {
+        // given
+        repository.create(userId, 100L, TransactionType.CHARGE, 1L);
+        repository.create(userId, 200L, TransactionType.CHARGE, 2L);
+
+        // when
+        release.countDown();
+
+        // then
+        verify(delegate, timeout(1000).times(2)).create(anyLong(), anyLong(), eq(TransactionType.CHARGE), anyLong());
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).create(userId, 100L, TransactionType.CHARGE, 1L);
+        inOrder.verify(delegate).create(userId, 200L, TransactionType.CHARGE, 2L);
+    }
+
+    @DisplayName("저장에 실패한 내역은 버리지 않고 성공할 때까지 다시 저장해야한다.")
+    @Test
+    void create_retriesFailedPersist() throws InterruptedException {
+        // given
+        given(delegate.create(anyLong(), anyLong(), eq(TransactionType.USE), anyLong()))
+                .willThrow(new IllegalStateException("table unavailable"))
+                .willThrow(new IllegalStateException("table unavailable"))
+                .willAnswer(invocation -> new PointHistory(tableIds.incrementAndGet(), userId, 100L, TransactionType.USE, 1L));
+
+        // when
+        repository.create(userId, 100L, TransactionType.USE, 1L);
+
+        // then
+        verify(delegate, timeout(1000).times(3)).create(userId, 100L, TransactionType.USE, 1L);
+        repository.destroy();
+        assertThat(repository.deadLetters()).isEmpty();
+    }
+
+    @DisplayName("저장된 id 가 미리 발급한 id 와 다르면 파이프라인을 멈추고, 남은 내역은 저장하지 않고 deadLetters 로 남겨야한다.")
+    @Test
+    void create_haltsOnIdMismatch() throws InterruptedException {
+        // given
+        CountDownLatch mismatch = new CountDownLatch(1);
+        given(delegate.create(anyLong(), anyLong(), eq(TransactionType.USE), anyLong())).willAnswer(invocation -> {
+            mismatch.await(5, TimeUnit.SECONDS);
+            return new PointHistory(42L, userId, 100L, TransactionType.USE, 1L);
+        });
+        repository.create(userId, 100L, TransactionType.USE, 1L);
+        verify(delegate, timeout(1000)).create(userId, 100L, TransactionType.USE, 1L);
+        PointHistory queued = repository.create(userId, 200L, TransactionType.CHARGE, 2L);
+
+        // when
+        mismatch.countDown();
+        repository.destroy();
+
+        // then
+        assertThat(repository.deadLetters()).containsExactly(queued);
+        verify(delegate, never()).create(anyLong(), anyLong(), eq(TransactionType.CHARGE), anyLong());
+        assertThatThrownBy(() -> repository.create(userId, 300L, TransactionType.CHARGE, 3L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
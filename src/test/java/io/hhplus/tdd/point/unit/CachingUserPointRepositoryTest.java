@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.config.UserPointCacheProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
+import io.hhplus.tdd.point.repository.CachingUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+class CachingUserPointRepositoryTest {
+
+    @Mock
+    private UserPointRepository delegate;
+
+    private CachingUserPointRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final static long userId = 1L;
+    private final static long initialPoint = 1000L;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingUserPointRepository(delegate, new UserPointCacheProperties(), meterRegistry);
+
+        given(delegate.selectById(userId)).willReturn(new UserPoint(userId, initialPoint, System.currentTimeMillis(), 0L));
+    }
+
+    @DisplayName("최초 조회 이후의 조회는 캐시에서 반환하고, 적중/실패 수가 기록되어야한다.")
+    @Test
+    void selectById_servedFromCacheAfterFirstLoad() {
+        // when
+        repository.selectById(userId);
+        UserPoint result = repository.selectById(userId);
+
+        // then
+        assertThat(result.getPoint()).isEqualTo(initialPoint);
+        then(delegate).should(times(1)).selectById(userId);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "user-point").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "user-point").tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("update 후의 조회는 delegate 를 다시 읽지 않고 저장된 값을 반환해야한다.")
+    @Test
+    void update_refreshesCachedValue() {
+        // given
+        repository.selectById(userId);
+        given(delegate.update(userId, 0L, 1500L)).willReturn(new UserPoint(userId, 1500L, System.currentTimeMillis(), 1L));
+
+        // when
+        repository.update(userId, 0L, 1500L);
+        UserPoint result = repository.selectById(userId);
+
+        // then
+        assertThat(result.getPoint()).isEqualTo(1500L);
+        assertThat(result.getVersion()).isEqualTo(1L);
+        then(delegate).should(times(1)).selectById(userId);
+    }
+
+    @DisplayName("늦게 끝난 이전 version 의 저장은 캐시의 최신 값을 덮어쓰지 않아야한다.")
+    @Test
+    void update_olderVersionDoesNotOverwrite() {
+        // given
+        given(delegate.update(userId, 1500L)).willReturn(new UserPoint(userId, 1500L, System.currentTimeMillis(), 2L));
+        given(delegate.update(userId, 1200L)).willReturn(new UserPoint(userId, 1200L, System.currentTimeMillis(), 1L));
+
+        // when
+        repository.update(userId, 1500L);
+        repository.update(userId, 1200L);
+        UserPoint result = repository.selectById(userId);
+
+        // then
+        assertThat(result.getPoint()).isEqualTo(1500L);
+    }
+
+    @DisplayName("version 충돌이 나면 캐시를 비워 다음 조회는 delegate 에서 다시 읽어야한다.")
+    @Test
+    void update_whenVersionConflict_invalidatesCache() {
+        // given
+        repository.selectById(userId);
+        given(delegate.update(userId, 0L, 1500L)).willThrow(new PointVersionConflictException("다른 요청이 먼저 포인트를 변경했습니다."));
+
+        // when
+        assertThatThrownBy(() -> repository.update(userId, 0L, 1500L))
+                .isInstanceOf(PointVersionConflictException.class);
+        repository.selectById(userId);
+
+        // then
+        then(delegate).should(times(2)).selectById(userId);
+    }
+}
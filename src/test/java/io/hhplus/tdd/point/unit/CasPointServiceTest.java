@@ -0,0 +1,183 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.config.CasConcurrencyProperties;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import io.hhplus.tdd.point.exception.PointLimitExceededException;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.CasPointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class CasPointServiceTest {
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    private UserPointRepository userPointRepository;
+
+    private CasPointService pointService;
+
+    private final static long userId = 1L;
+    private final static long initialPoint = 1000L;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pointService = new CasPointService(pointHistoryRepository, userPointRepository, new CasConcurrencyProperties());
+
+        given(userPointRepository.selectById(anyLong())).willReturn(new UserPoint(userId, initialPoint, System.currentTimeMillis()));
+    }
+
+    @DisplayName("포인트 충전 시 (기본 point값 + 충전 point값)을 반환하고 저장해야한다.")
+    @Test
+    void chargePointTest() {
+        // given
+        long chargeAmount = 200L;
+
+        // when
+        UserPoint result = pointService.chargePoint(UserPointDto.builder().id(userId).amount(chargeAmount).build());
+
+        // then
+        assertThat(result.getPoint()).isEqualTo(initialPoint + chargeAmount);
+        then(userPointRepository).should().update(userId, initialPoint + chargeAmount);
+        then(pointHistoryRepository).should().create(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong());
+    }
+
+    @DisplayName("포인트 사용 시 잔액이 부족하면 InsufficientPointException이 발생하고 잔액은 바뀌지 않아야 한다.")
+    @Test
+    void usePoint_whenInsufficientPoints_throwsException() {
+        // when & then
+        assertThatThrownBy(() -> pointService.usePoint(UserPointDto.builder().id(userId).amount(initialPoint + 1).build()))
+                .isInstanceOf(InsufficientPointException.class);
+
+        assertThat(pointService.getPoint(UserPointDto.builder().id(userId).build()).getPoint()).isEqualTo(initialPoint);
+        then(userPointRepository).should(never()).update(anyLong(), anyLong());
+    }
+
+    @DisplayName("포인트 충전 시 한도를 초과하면 PointLimitExceededException이 발생해야 한다.")
+    @Test
+    void chargePoint_whenExceedsMaxPointLimit_throwsException() {
+        // when & then
+        assertThatThrownBy(() -> pointService.chargePoint(UserPointDto.builder().id(userId).amount(999_900L).build()))
+                .isInstanceOf(PointLimitExceededException.class);
+
+        then(pointHistoryRepository).should(never()).create(anyLong(), anyLong(), eq(TransactionType.CHARGE), anyLong());
+    }
+
+    @DisplayName("한 id로 동시의 100개 포인트 충전요청처리 시 모든 충전이 반영되어야한다.")
+    @Test
+    void testConcurrentChargePoints() throws InterruptedException {
+        // given
+        long chargeAmount = 10L;
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            executor.submit(() -> pointService.chargePoint(UserPointDto.builder().id(userId).amount(chargeAmount).build()));
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        // then
+        assertThat(pointService.getPoint(UserPointDto.builder().id(userId).build()).getPoint())
+                .isEqualTo(initialPoint + chargeAmount * 100);
+        then(userPointRepository).should(times(1)).selectById(userId);
+        then(userPointRepository).should().update(userId, initialPoint + chargeAmount * 100);
+    }
+
+    @DisplayName("동시에 충전해도 내역은 잔액이 바뀐 순서대로 저장되어야한다.")
+    @Test
+    void concurrentCharges_historiesFollowBalanceOrder() throws Exception {
+        // given
+        List<Future<UserPoint>> futures = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(10)) {
+            for (long amount = 1; amount <= 100; amount++) {
+                long chargeAmount = amount;
+                futures.add(executor.submit(() -> pointService.chargePoint(UserPointDto.builder().id(userId).amount(chargeAmount).build())));
+            }
+        }
+
+        // then - 충전만 했으므로 충전 후 잔액 순서가 잔액 변경 순서이고, 그 차이가 각 충전 금액이다.
+        List<Long> balances = new ArrayList<>();
+        for (Future<UserPoint> future : futures) {
+            balances.add(future.get().getPoint());
+        }
+        balances.sort(Comparator.naturalOrder());
+        List<Long> expectedAmounts = new ArrayList<>();
+        long previous = initialPoint;
+        for (long balance : balances) {
+            expectedAmounts.add(balance - previous);
+            previous = balance;
+        }
+
+        ArgumentCaptor<Long> amounts = ArgumentCaptor.forClass(Long.class);
+        then(pointHistoryRepository).should(times(100)).create(eq(userId), amounts.capture(), eq(TransactionType.CHARGE), anyLong());
+        assertThat(amounts.getAllValues()).containsExactlyElementsOf(expectedAmounts);
+    }
+
+    @DisplayName("cell 수가 maxCells 를 넘으면 저장이 끝난 cell 을 제거하고, 다음 요청은 저장소에서 다시 읽어야한다.")
+    @Test
+    void evictsPersistedCellsBeyondMaxCells() {
+        // given
+        CasConcurrencyProperties properties = new CasConcurrencyProperties();
+        properties.setMaxCells(1);
+        CasPointService bounded = new CasPointService(pointHistoryRepository, userPointRepository, properties);
+        bounded.chargePoint(UserPointDto.builder().id(1L).amount(10L).build());
+        bounded.chargePoint(UserPointDto.builder().id(2L).amount(10L).build());
+
+        // when
+        bounded.chargePoint(UserPointDto.builder().id(1L).amount(10L).build());
+
+        // then
+        then(userPointRepository).should(times(2)).selectById(1L);
+        then(pointHistoryRepository).should(times(2)).create(eq(1L), eq(10L), eq(TransactionType.CHARGE), anyLong());
+    }
+
+    @DisplayName("CAS 로 반영된 뒤 저장에 실패해도 요청은 성공하고, 실패한 저장은 다시 시도해야한다.")
+    @Test
+    void persistFailure_doesNotFailRequestAndIsRetried() {
+        // given
+        long chargeAmount = 200L;
+        given(userPointRepository.update(userId, initialPoint + chargeAmount))
+                .willThrow(new IllegalStateException("table unavailable"))
+                .willReturn(new UserPoint(userId, initialPoint + chargeAmount, System.currentTimeMillis()));
+
+        // when
+        UserPoint result = pointService.chargePoint(UserPointDto.builder().id(userId).amount(chargeAmount).build());
+        pointService.persistAll();
+
+        // then - 클라이언트가 재시도해 두 번 충전하지 않도록 성공을 반환하고, 내역은 한 번만 저장해야한다.
+        assertThat(result.getPoint()).isEqualTo(initialPoint + chargeAmount);
+        assertThat(pointService.persistFailureCount()).isEqualTo(1L);
+        then(userPointRepository).should(times(2)).update(userId, initialPoint + chargeAmount);
+        then(pointHistoryRepository).should(times(1)).create(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong());
+    }
+}
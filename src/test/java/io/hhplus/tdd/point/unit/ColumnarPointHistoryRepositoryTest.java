@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarPointHistoryRepositoryTest {
+
+    private final ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository();
+
+    @DisplayName("저장한 내역은 1부터 순서대로 id 를 받고, 조회 시 같은 값으로 만들어져야한다.")
+    @Test
+    void createThenSelect() {
+        // given
+        PointHistory first = repository.create(1L, 100L, TransactionType.CHARGE, 10L);
+        repository.create(2L, 200L, TransactionType.CHARGE, 20L);
+        PointHistory second = repository.create(1L, 50L, TransactionType.USE, 30L);
+
+        // when
+        List<PointHistory> histories = repository.selectAllByUserId(1L);
+
+        // then
+        assertThat(first.id()).isEqualTo(1L);
+        assertThat(second.id()).isEqualTo(3L);
+        assertThat(histories).containsExactly(first, second);
+        assertThat(repository.selectAllByUserId(3L)).isEmpty();
+    }
+
+    @DisplayName("chunk 경계를 넘어 저장해도 유저별 내역과 cursor 조회가 이어져야한다.")
+    @Test
+    void selectAcrossChunks() {
+        // given - chunk 하나(65536건)를 넘기도록 두 유저의 내역을 번갈아 저장한다.
+        int perUser = 40_000;
+        for (int i = 0; i < perUser; i++) {
+            repository.create(1L, i, TransactionType.CHARGE, i);
+            repository.create(2L, i, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+        }
+
+        // when
+        List<PointHistory> all = repository.selectAllByUserId(2L);
+        List<PointHistory> page = repository.selectByUserId(2L, PointHistorySearchDto.builder()
+                .userId(2L)
+                .cursor(all.get(perUser - 10).id())
+                .limit(3)
+                .type(TransactionType.USE)
+                .build());
+        List<PointHistory> streamed = new ArrayList<>();
+        repository.forEachByUserId(1L, streamed::add);
+
+        // then
+        assertThat(repository.size()).isEqualTo(perUser * 2);
+        assertThat(all).hasSize(perUser);
+        assertThat(all.get(perUser - 1).amount()).isEqualTo(perUser - 1L);
+        assertThat(page).extracting(PointHistory::amount).containsExactly(39_991L, 39_993L, 39_995L);
+        assertThat(streamed).hasSize(perUser);
+        assertThat(streamed).extracting(PointHistory::userId).containsOnly(1L);
+    }
+
+    @DisplayName("내역 저장 시 유저별 충전/사용 합계와 건수가 함께 집계되어야한다.")
+    @Test
+    void selectSummaryByUserId() {
+        // given
+        repository.create(1L, 300L, TransactionType.CHARGE, 10L);
+        repository.create(1L, 100L, TransactionType.USE, 20L);
+        repository.create(2L, 999L, TransactionType.CHARGE, 25L);
+
+        // when
+        PointHistorySummary summary = repository.selectSummaryByUserId(1L);
+
+        // then
+        assertThat(summary.totalCharged()).isEqualTo(300L);
+        assertThat(summary.totalUsed()).isEqualTo(100L);
+        assertThat(summary.count()).isEqualTo(2L);
+        assertThat(summary.firstUpdateMillis()).isEqualTo(10L);
+        assertThat(summary.lastUpdateMillis()).isEqualTo(20L);
+        assertThat(repository.selectSummaryByUserId(3L)).isEqualTo(PointHistorySummary.empty(3L));
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.collection.ConcurrentLongMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentLongMapTest {
+
+    @DisplayName("저장한 값을 키로 조회할 수 있고, 0 과 음수 키도 저장되어야한다.")
+    @Test
+    void putThenGet() {
+        // given
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+
+        // when
+        map.put(0L, "zero");
+        map.put(-1L, "minus");
+        map.put(Long.MAX_VALUE, "max");
+        map.put(0L, "zero-updated");
+
+        // then
+        assertThat(map.get(0L)).isEqualTo("zero-updated");
+        assertThat(map.get(-1L)).isEqualTo("minus");
+        assertThat(map.get(Long.MAX_VALUE)).isEqualTo("max");
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @DisplayName("함수가 null 을 반환하면 항목이 제거되고, 남은 항목은 계속 조회되어야한다.")
+    @Test
+    void removeKeepsOtherEntriesReachable() {
+        // given - segment 하나에 많은 키를 넣어 probing 경로가 길어지게 한다.
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(1);
+        Map<Long, Long> expected = new HashMap<>();
+        for (long key = 1; key <= 10_000; key++) {
+            map.put(key, key * 10);
+            expected.put(key, key * 10);
+        }
+
+        // when
+        for (long key = 1; key <= 10_000; key += 3) {
+            map.computeIfPresent(key, (k, value) -> null);
+            expected.remove(key);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 10_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+        Map<Long, Long> iterated = new HashMap<>();
+        map.forEach(iterated::put);
+        assertThat(iterated).isEqualTo(expected);
+    }
+
+    @DisplayName("computeIfAbsent 는 값이 있으면 함수를 실행하지 않고 기존 값을 반환해야한다.")
+    @Test
+    void computeIfAbsentReturnsExisting() {
+        // given
+        ConcurrentLongMap<StringBuilder> map = new ConcurrentLongMap<>();
+        StringBuilder first = map.computeIfAbsent(7L, key -> new StringBuilder("first"));
+
+        // when
+        StringBuilder second = map.computeIfAbsent(7L, key -> new StringBuilder("second"));
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @DisplayName("여러 스레드가 같은 키들을 동시에 compute 해도 갱신이 유실되지 않아야한다.")
+    @Test
+    void concurrentCompute() {
+        // given
+        ConcurrentLongMap<long[]> map = new ConcurrentLongMap<>(4);
+        int keys = 512;
+        int threads = 8;
+        int incrementsPerThread = 20_000;
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        long key = ThreadLocalRandom.current().nextLong(keys);
+                        map.compute(key, (k, counter) -> {
+                            long[] updated = counter == null ? new long[1] : counter;
+                            updated[0]++;
+                            return updated;
+                        });
+                        map.get(key);
+                    }
+                });
+            }
+        }
+
+        // then
+        long[] total = new long[1];
+        map.forEach((key, counter) -> total[0] += counter[0]);
+        assertThat(total[0]).isEqualTo((long) threads * incrementsPerThread);
+    }
+}
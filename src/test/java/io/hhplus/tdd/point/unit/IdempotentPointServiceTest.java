@@ -0,0 +1,183 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.config.PointIdempotencyProperties;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.IdempotencyKeyReusedException;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import io.hhplus.tdd.point.service.IdempotentPointService;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class IdempotentPointServiceTest {
+
+    @Mock
+    private PointService delegate;
+
+    private IdempotentPointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pointService = new IdempotentPointService(delegate, new PointIdempotencyProperties(), new SimpleMeterRegistry());
+    }
+
+    @DisplayName("같은 Idempotency-Key 로 다시 충전하면 실행하지 않고 처음 결과를 반환해야한다.")
+    @Test
+    void replaysCompletedCharge() {
+        // given
+        given(delegate.chargePoint(any(UserPointDto.class))).willReturn(new UserPoint(1L, 100L, 10L, 1L));
+        UserPoint first = pointService.chargePoint(charge("key-1", 100L));
+
+        // when
+        UserPoint retried = pointService.chargePoint(charge("key-1", 100L));
+
+        // then
+        verify(delegate, times(1)).chargePoint(any(UserPointDto.class));
+        assertThat(retried).isEqualTo(first);
+    }
+
+    @DisplayName("Idempotency-Key 가 없으면 요청마다 실행해야한다.")
+    @Test
+    void executesWithoutKey() {
+        // given
+        given(delegate.chargePoint(any(UserPointDto.class))).willReturn(new UserPoint(1L, 100L, 10L, 1L));
+
+        // when
+        pointService.chargePoint(charge(null, 100L));
+        pointService.chargePoint(charge(null, 100L));
+
+        // then
+        verify(delegate, times(2)).chargePoint(any(UserPointDto.class));
+    }
+
+    @DisplayName("같은 키로 금액이나 유형이 다른 요청을 보내면 IdempotencyKeyReusedException 이 발생해야한다.")
+    @Test
+    void rejectsReusedKey() {
+        // given
+        given(delegate.chargePoint(any(UserPointDto.class))).willReturn(new UserPoint(1L, 100L, 10L, 1L));
+        pointService.chargePoint(charge("key-1", 100L));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.chargePoint(charge("key-1", 200L)))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThatThrownBy(() -> pointService.usePoint(charge("key-1", 100L)))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        verify(delegate, times(1)).chargePoint(any(UserPointDto.class));
+    }
+
+    @DisplayName("실패한 요청은 보관하지 않고, 같은 키로 재시도하면 다시 실행해야한다.")
+    @Test
+    void retriesFailedUse() {
+        // given
+        given(delegate.usePoint(any(UserPointDto.class)))
+                .willThrow(new InsufficientPointException("포인트가 부족합니다."))
+                .willReturn(new UserPoint(1L, 0L, 10L, 2L));
+        assertThatThrownBy(() -> pointService.usePoint(charge("key-1", 100L)))
+                .isInstanceOf(InsufficientPointException.class);
+
+        // when
+        UserPoint retried = pointService.usePoint(charge("key-1", 100L));
+
+        // then
+        verify(delegate, times(2)).usePoint(any(UserPointDto.class));
+        assertThat(retried.getPoint()).isZero();
+    }
+
+    @DisplayName("처음 요청이 실행 중일 때 같은 키로 동시에 요청하면 다시 실행하지 않고 그 결과를 기다려야한다.")
+    @Test
+    void concurrentDuplicateWaitsForInFlight() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.chargePoint(any(UserPointDto.class))).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new UserPoint(1L, 100L, 10L, 1L);
+        });
+        int duplicates = 8;
+
+        // when
+        List<Future<UserPoint>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(duplicates + 1)) {
+            results.add(executor.submit(() -> pointService.chargePoint(charge("key-1", 100L))));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < duplicates; i++) {
+                results.add(executor.submit(() -> pointService.chargePoint(charge("key-1", 100L))));
+            }
+            release.countDown();
+        }
+
+        // then
+        verify(delegate, times(1)).chargePoint(any(UserPointDto.class));
+        for (Future<UserPoint> result : results) {
+            assertThat(result.get().getPoint()).isEqualTo(100L);
+        }
+    }
+
+    @DisplayName("실행 중인 요청은 캐시 크기를 넘어도 밀려나지 않고, 같은 키의 요청은 그 결과를 기다려야한다.")
+    @Test
+    void inFlightExecutionIsNotEvicted() throws Exception {
+        // given
+        PointIdempotencyProperties properties = new PointIdempotencyProperties();
+        properties.setMaximumSize(1L);
+        IdempotentPointService bounded = new IdempotentPointService(delegate, properties, new SimpleMeterRegistry());
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.chargePoint(any(UserPointDto.class))).willAnswer(invocation -> {
+            UserPointDto request = invocation.getArgument(0);
+            if ("slow".equals(request.getIdempotencyKey())) {
+                started.countDown();
+                release.await();
+            }
+            return new UserPoint(1L, request.getAmount(), 10L, 1L);
+        });
+
+        // when
+        Future<UserPoint> first;
+        Future<UserPoint> duplicate;
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            first = executor.submit(() -> bounded.chargePoint(charge("slow", 100L)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 100; i++) {
+                bounded.chargePoint(charge("key-" + i, 1L));
+            }
+            duplicate = executor.submit(() -> bounded.chargePoint(charge("slow", 100L)));
+            release.countDown();
+        }
+
+        // then
+        assertThat(first.get().getPoint()).isEqualTo(100L);
+        assertThat(duplicate.get().getPoint()).isEqualTo(100L);
+        verify(delegate, times(101)).chargePoint(any(UserPointDto.class));
+    }
+
+    private static UserPointDto charge(String idempotencyKey, long amount) {
+        return UserPointDto.builder()
+                .id(1L)
+                .amount(amount)
+                .idempotencyKey(idempotencyKey)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import io.hhplus.tdd.point.service.MeteredPointService;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+class MeteredPointServiceTest {
+
+    @Mock
+    private PointService delegate;
+
+    private MeterRegistry meterRegistry;
+    private MeteredPointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        pointService = new MeteredPointService(delegate, meterRegistry);
+    }
+
+    @DisplayName("충전에 성공하면 chargePoint 의 success 타이머에 기록되어야한다.")
+    @Test
+    void recordsSuccessTimer() {
+        // given
+        given(delegate.chargePoint(any(UserPointDto.class))).willReturn(new UserPoint(1L, 100L, System.currentTimeMillis()));
+
+        // when
+        pointService.chargePoint(UserPointDto.builder().id(1L).amount(100L).build());
+
+        // then
+        assertThat(meterRegistry.get("point.service").tag("operation", "chargePoint").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("point.service").tag("operation", "chargePoint").tag("outcome", "error").timer().count())
+                .isZero();
+    }
+
+    @DisplayName("도메인 예외가 발생하면 error 타이머와 예외 카운터에 기록하고 예외를 그대로 던져야한다.")
+    @Test
+    void countsDomainException() {
+        // given
+        given(delegate.usePoint(any(UserPointDto.class))).willThrow(new InsufficientPointException("포인트가 부족합니다."));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.usePoint(UserPointDto.builder().id(1L).amount(100L).build()))
+                .isInstanceOf(InsufficientPointException.class);
+        assertThat(meterRegistry.get("point.service").tag("operation", "usePoint").tag("outcome", "error").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("point.exceptions").tag("exception", "InsufficientPointException").counter().count())
+                .isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.config.OffHeapUserPointProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
+import io.hhplus.tdd.point.repository.OffHeapUserPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class OffHeapUserPointRepositoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("저장한 잔액과 version 을 조회할 수 있고, 없는 유저는 0 포인트로 조회되어야한다.")
+    @Test
+    void createThenSelect() {
+        // given
+        OffHeapUserPointRepository repository = open(4, 16);
+        repository.create(1L, 100L);
+        repository.update(1L, 150L);
+
+        // when
+        UserPoint userPoint = repository.selectById(1L);
+        UserPoint missing = repository.selectById(2L);
+
+        // then
+        assertThat(userPoint.getPoint()).isEqualTo(150L);
+        assertThat(userPoint.getVersion()).isEqualTo(2L);
+        assertThat(missing.getPoint()).isZero();
+        assertThat(missing.getVersion()).isZero();
+    }
+
+    @DisplayName("version 이 다르면 조건부 update 는 실패하고 잔액은 바뀌지 않아야한다.")
+    @Test
+    void updateWithStaleVersion() {
+        // given
+        OffHeapUserPointRepository repository = open(4, 16);
+        repository.create(1L, 100L);
+
+        // when & then
+        assertThatThrownBy(() -> repository.update(1L, 0L, 200L))
+                .isInstanceOf(PointVersionConflictException.class);
+        assertThat(repository.update(1L, 1L, 300L).getVersion()).isEqualTo(2L);
+        assertThat(repository.selectById(1L).getPoint()).isEqualTo(300L);
+    }
+
+    @DisplayName("처음 확보한 크기를 넘어 저장해도 모든 유저의 잔액이 유지되어야한다.")
+    @Test
+    void growsBeyondExpectedUsers() {
+        // given
+        OffHeapUserPointRepository repository = open(2, 16);
+        long users = 10_000L;
+        long initialBytes = repository.allocatedBytes();
+
+        // when
+        for (long id = 1; id <= users; id++) {
+            repository.create(id, id * 10);
+        }
+
+        // then
+        assertThat(repository.size()).isEqualTo(users);
+        assertThat(repository.allocatedBytes()).isGreaterThan(initialBytes);
+        assertThat(repository.selectByIds(List.of(1L, 5_000L, users)))
+                .extracting(UserPoint::getPoint)
+                .containsExactly(10L, 50_000L, users * 10);
+        assertThat(meterRegistry.get("point.user-point.off-heap.users").gauge().value()).isEqualTo((double) users);
+    }
+
+    @DisplayName("여러 스레드가 동시에 쓰고 읽어도 유저별 마지막 잔액과 version 이 맞아야한다.")
+    @Test
+    void concurrentWrites() {
+        // given
+        OffHeapUserPointRepository repository = open(4, 64);
+        int users = 1_000;
+        int updatesPerUser = 20;
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int u = 1; u <= users; u++) {
+                long id = u;
+                executor.submit(() -> {
+                    for (int i = 1; i <= updatesPerUser; i++) {
+                        repository.update(id, i);
+                        repository.selectById(id);
+                    }
+                });
+            }
+        }
+
+        // then
+        for (long id = 1; id <= users; id++) {
+            UserPoint userPoint = repository.selectById(id);
+            assertThat(userPoint.getPoint()).isEqualTo(updatesPerUser);
+            assertThat(userPoint.getVersion()).isEqualTo(updatesPerUser);
+        }
+    }
+
+    private OffHeapUserPointRepository open(int stripes, long expectedUsers) {
+
+        OffHeapUserPointProperties properties = new OffHeapUserPointProperties();
+        properties.setStripes(stripes);
+        properties.setExpectedUsers(expectedUsers);
+        return new OffHeapUserPointRepository(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.config.OptimisticConcurrencyProperties;
+import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.OptimisticPointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class OptimisticPointServiceTest {
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    private UserPointRepository userPointRepository;
+
+    private OptimisticPointService pointService;
+
+    private final static long userId = 1L;
+    private final static long initialPoint = 1000L;
+    private final static int maxAttempts = 3;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        OptimisticConcurrencyProperties properties = new OptimisticConcurrencyProperties();
+        properties.setMaxAttempts(maxAttempts);
+        pointService = new OptimisticPointService(pointHistoryRepository, userPointRepository, properties);
+    }
+
+    @DisplayName("version 충돌이 나면 다시 조회한 version 으로 재시도하고 이력은 한 번만 저장해야한다.")
+    @Test
+    void retriesOnConflict() {
+        // given
+        long chargeAmount = 100L;
+        given(userPointRepository.selectById(userId)).willReturn(
+                new UserPoint(userId, initialPoint, System.currentTimeMillis(), 1L),
+                new UserPoint(userId, initialPoint + 50L, System.currentTimeMillis(), 2L));
+        given(userPointRepository.update(userId, 1L, initialPoint + chargeAmount))
+                .willThrow(new PointVersionConflictException("다른 요청이 먼저 포인트를 변경했습니다."));
+        given(userPointRepository.update(userId, 2L, initialPoint + 50L + chargeAmount))
+                .willReturn(new UserPoint(userId, initialPoint + 50L + chargeAmount, System.currentTimeMillis(), 3L));
+
+        // when
+        UserPoint result = pointService.chargePoint(UserPointDto.builder().id(userId).amount(chargeAmount).build());
+
+        // then
+        assertThat(result.getPoint()).isEqualTo(initialPoint + 50L + chargeAmount);
+        assertThat(result.getVersion()).isEqualTo(3L);
+        then(userPointRepository).should(times(2)).selectById(userId);
+        then(pointHistoryRepository).should(times(1)).create(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong());
+    }
+
+    @DisplayName("재시도 횟수를 모두 쓰면 PointVersionConflictException이 발생하고 이력은 저장하지 않아야한다.")
+    @Test
+    void givesUpAfterMaxAttempts() {
+        // given
+        given(userPointRepository.selectById(userId)).willReturn(new UserPoint(userId, initialPoint, System.currentTimeMillis(), 1L));
+        given(userPointRepository.update(eq(userId), eq(1L), anyLong()))
+                .willThrow(new PointVersionConflictException("다른 요청이 먼저 포인트를 변경했습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.usePoint(UserPointDto.builder().id(userId).amount(100L).build()))
+                .isInstanceOf(PointVersionConflictException.class);
+        then(userPointRepository).should(times(maxAttempts)).selectById(userId);
+        then(pointHistoryRepository).should(never()).create(anyLong(), anyLong(), eq(TransactionType.USE), anyLong());
+    }
+
+    @DisplayName("이력 저장이 실패하면 저장된 version 으로 잔액을 이전 값으로 되돌려야한다.")
+    @Test
+    void restoresBalanceWhenHistoryFails() {
+        // given
+        long chargeAmount = 100L;
+        given(userPointRepository.selectById(userId)).willReturn(new UserPoint(userId, initialPoint, System.currentTimeMillis(), 1L));
+        given(userPointRepository.update(userId, 1L, initialPoint + chargeAmount))
+                .willReturn(new UserPoint(userId, initialPoint + chargeAmount, System.currentTimeMillis(), 2L));
+        given(pointHistoryRepository.create(anyLong(), anyLong(), eq(TransactionType.CHARGE), anyLong()))
+                .willThrow(new IllegalStateException("history failure"));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.chargePoint(UserPointDto.builder().id(userId).amount(chargeAmount).build()))
+                .isInstanceOf(IllegalStateException.class);
+        then(userPointRepository).should().update(userId, 2L, initialPoint);
+    }
+
+    @DisplayName("이력 저장 실패 후 그 사이 다른 변경이 있어 잔액을 되돌리지 못하면 되돌리기 실패 수를 세어야한다.")
+    @Test
+    void countsCompensationFailureWhenBalanceChanged() {
+        // given
+        long chargeAmount = 100L;
+        given(userPointRepository.selectById(userId)).willReturn(new UserPoint(userId, initialPoint, System.currentTimeMillis(), 1L));
+        given(userPointRepository.update(userId, 1L, initialPoint + chargeAmount))
+                .willReturn(new UserPoint(userId, initialPoint + chargeAmount, System.currentTimeMillis(), 2L));
+        given(userPointRepository.update(userId, 2L, initialPoint))
+                .willThrow(new PointVersionConflictException("다른 요청이 먼저 포인트를 변경했습니다."));
+        given(pointHistoryRepository.create(eq(userId), eq(chargeAmount), eq(TransactionType.CHARGE), anyLong()))
+                .willThrow(new IllegalStateException("history failure"));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.chargePoint(UserPointDto.builder().id(userId).amount(chargeAmount).build()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(pointService.compensationFailureCount()).isEqualTo(1L);
+    }
+}
@@ -2,24 +2,47 @@ package io.hhplus.tdd.point.unit;
 
 import io.hhplus.tdd.point.controller.PointController;
 import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointHistorySearchDto;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResultDto;
+import io.hhplus.tdd.point.dto.PointOperationStatus;
 import io.hhplus.tdd.point.dto.UserPointDto;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
 import io.hhplus.tdd.point.service.PointService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PointController.class)
@@ -45,6 +68,77 @@ class PointControllerTest {
                 .andExpect(jsonPath("$.point").value(100L));
     }
 
+    @DisplayName("/point?ids= api 요청 시 요청한 id 순서대로 잔액 목록을 반환해야한다.")
+    @Test
+    void getPoints() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        when(pointService.getPoints(List.of(2L, 1L))).thenReturn(List.of(
+                new UserPoint(2L, 200L, now),
+                new UserPoint(1L, 100L, now)));
+
+        // when & then
+        mockMvc.perform(get("/point").param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2L))
+                .andExpect(jsonPath("$[0].point").value(200L))
+                .andExpect(jsonPath("$[1].id").value(1L))
+                .andExpect(jsonPath("$[1].point").value(100L))
+                .andExpect(jsonPath("$[0].amount").doesNotExist());
+    }
+
+    @DisplayName("/point?ids= api 요청 시 조회할 수 있는 유저 수를 넘으면 400을 반환해야한다.")
+    @Test
+    void getPoints_whenTooManyIds_returnsBadRequest() throws Exception {
+        // given
+        when(pointService.getPoints(anyList()))
+                .thenThrow(new IllegalArgumentException("한 번에 조회할 수 있는 유저 수는 1000명 이하입니다."));
+
+        // when & then
+        mockMvc.perform(get("/point").param("ids", "1,2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("한 번에 조회할 수 있는 유저 수는 1000명 이하입니다."));
+    }
+
+    @DisplayName("/point/{id}/histories api 요청 시 limit이 1 미만이면 400을 반환해야한다.")
+    @Test
+    void getPointHistory_whenLimitIsNotPositive_returnsBadRequest() throws Exception {
+        // when & then
+        mockMvc.perform(get("/point/1/histories").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"));
+    }
+
+    @DisplayName("/point/{id}/histories api 요청 시 limit이 최대 조회 건수를 넘으면 400을 반환해야한다.")
+    @Test
+    void getPointHistory_whenLimitExceedsMaximum_returnsBadRequest() throws Exception {
+        // when & then
+        mockMvc.perform(get("/point/1/histories").param("limit", String.valueOf(PointHistorySearchDto.MAX_LIMIT + 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("limit은 " + PointHistorySearchDto.MAX_LIMIT + " 이하여야 합니다."));
+    }
+
+    @DisplayName("/point/{id}/summary api 요청 시 충전/사용 합계와 건수를 반환해야한다.")
+    @Test
+    void getPointHistorySummary() throws Exception {
+        // given
+        when(pointService.getPointHistorySummary(any(PointHistoryDto.class)))
+                .thenReturn(new PointHistorySummary(1L, 300L, 100L, 2L, 1L, 10L, 30L, 3L));
+
+        // when & then
+        mockMvc.perform(get("/point/1/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(1L))
+                .andExpect(jsonPath("$.totalCharged").value(300L))
+                .andExpect(jsonPath("$.totalUsed").value(100L))
+                .andExpect(jsonPath("$.chargeCount").value(2L))
+                .andExpect(jsonPath("$.useCount").value(1L))
+                .andExpect(jsonPath("$.firstUpdateMillis").value(10L))
+                .andExpect(jsonPath("$.lastUpdateMillis").value(30L));
+    }
+
     @DisplayName("/point/{id}/charge api 요청 시 UserPointDto를 반환해야한다.")
     @Test
     void chargePoint() throws Exception {
@@ -60,6 +154,43 @@ class PointControllerTest {
                 .andExpect(jsonPath("$.point").value(200L));
     }
 
+    @DisplayName("/point/{id}/charge api 요청 시 Idempotency-Key 헤더를 서비스로 전달하고 응답에는 포함하지 않아야한다.")
+    @Test
+    void chargePointWithIdempotencyKey() throws Exception {
+        // given
+        when(pointService.chargePoint(any(UserPointDto.class))).thenReturn(new UserPoint(1L, 200L, System.currentTimeMillis()));
+
+        // when
+        mockMvc.perform(patch("/point/1/charge")
+                        .header("Idempotency-Key", "charge-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.idempotencyKey").doesNotExist());
+
+        // then
+        ArgumentCaptor<UserPointDto> captor = ArgumentCaptor.forClass(UserPointDto.class);
+        verify(pointService).chargePoint(captor.capture());
+        assertThat(captor.getValue().getIdempotencyKey()).isEqualTo("charge-1");
+        assertThat(captor.getValue().getAmount()).isEqualTo(100L);
+    }
+
+    @DisplayName("/point/{id}/charge api 요청 시 재시도 후에도 version 충돌이면 409를 반환해야한다.")
+    @Test
+    void chargePoint_whenVersionConflictPersists_returnsConflict() throws Exception {
+        // given
+        when(pointService.chargePoint(any(UserPointDto.class)))
+                .thenThrow(new PointVersionConflictException("다른 요청이 먼저 포인트를 변경했습니다."));
+
+        // when & then
+        mockMvc.perform(patch("/point/1/charge")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("100"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("409"))
+                .andExpect(jsonPath("$.message").value("다른 요청이 먼저 포인트를 변경했습니다."));
+    }
+
     @DisplayName("/point/{id}/use api 요청 시 UserPointDto를 반환해야한다.")
     @Test
     void usePoint() throws Exception {
@@ -79,11 +210,118 @@ class PointControllerTest {
     @Test
     void getPointHistory() throws Exception {
         // given
-        when(pointService.getPointHistory(any(PointHistoryDto.class))).thenReturn(List.of());
+        PointHistory charged = new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1000L);
+        PointHistory used = new PointHistory(2L, 1L, 50L, TransactionType.USE, 2000L);
+        when(pointService.getPointHistory(any(PointHistorySearchDto.class))).thenReturn(List.of(charged, used));
 
-        // when & then
+        // when
         mockMvc.perform(get("/point/1/histories"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].type").value("CHARGE"))
+                .andExpect(jsonPath("$[1].id").value(2L))
+                .andExpect(jsonPath("$[1].amount").value(50L));
+
+        // then - 조건이 없으면 기본 페이지 크기로 조회해야한다.
+        ArgumentCaptor<PointHistorySearchDto> captor = ArgumentCaptor.forClass(PointHistorySearchDto.class);
+        verify(pointService).getPointHistory(captor.capture());
+        assertThat(captor.getValue().getUserId()).isEqualTo(1L);
+        assertThat(captor.getValue().getCursor()).isZero();
+        assertThat(captor.getValue().getLimit()).isEqualTo(PointHistorySearchDto.DEFAULT_LIMIT);
+        assertThat(captor.getValue().getType()).isNull();
+    }
+
+    @DisplayName("/point/{id}/histories api 요청 시 cursor/limit/from/to/type 조건을 서비스에 전달해야한다.")
+    @Test
+    void getPointHistoryWithCondition() throws Exception {
+        // given
+        PointHistory pointHistory = new PointHistory(11L, 1L, 100L, TransactionType.USE, 1500L);
+        when(pointService.getPointHistory(any(PointHistorySearchDto.class))).thenReturn(List.of(pointHistory));
+
+        // when & then
+        mockMvc.perform(get("/point/1/histories")
+                        .param("cursor", "10")
+                        .param("limit", "20")
+                        .param("from", "1000")
+                        .param("to", "2000")
+                        .param("type", "USE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(11L))
+                .andExpect(jsonPath("$[0].type").value("USE"));
+
+        ArgumentCaptor<PointHistorySearchDto> captor = ArgumentCaptor.forClass(PointHistorySearchDto.class);
+        verify(pointService).getPointHistory(captor.capture());
+        PointHistorySearchDto condition = captor.getValue();
+        assertThat(condition.getUserId()).isEqualTo(1L);
+        assertThat(condition.getCursor()).isEqualTo(10L);
+        assertThat(condition.getLimit()).isEqualTo(20);
+        assertThat(condition.getFrom()).isEqualTo(1000L);
+        assertThat(condition.getTo()).isEqualTo(2000L);
+        assertThat(condition.getType()).isEqualTo(TransactionType.USE);
+    }
+
+    @DisplayName("/point/histories/export api 요청 시 내역을 한 줄에 하나씩 NDJSON 으로 반환해야한다.")
+    @Test
+    void exportPointHistories() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            Consumer<PointHistory> consumer = invocation.getArgument(1);
+            consumer.accept(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1000L));
+            consumer.accept(new PointHistory(2L, 2L, 50L, TransactionType.USE, 2000L));
+            return null;
+        }).when(pointService).exportPointHistories(anyList(), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/point/histories/export").param("userIds", "1,2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then - 전역 비동기 제한 시간(10s) 대신 내보내기 전용 제한 시간이 적용되어야한다.
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(TimeUnit.MINUTES.toMillis(5));
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(
+                        "{\"id\":1,\"userId\":1,\"amount\":100,\"type\":\"CHARGE\",\"updateMilli\":1000}\n"
+                                + "{\"id\":2,\"userId\":2,\"amount\":50,\"type\":\"USE\",\"updateMilli\":2000}\n"));
+    }
+
+    @DisplayName("/point/histories/export api 요청 시 내보낼 수 있는 유저 수를 넘으면 스트리밍 전에 400을 반환해야한다.")
+    @Test
+    void exportPointHistories_whenTooManyUsers_returnsBadRequest() throws Exception {
+        // given
+        String userIds = LongStream.rangeClosed(1, 1001).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        // when & then
+        mockMvc.perform(get("/point/histories/export").param("userIds", userIds))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("한 번에 내보낼 수 있는 유저 수는 1000명 이하입니다."));
+        verify(pointService, never()).exportPointHistories(anyList(), any());
+    }
+
+    @DisplayName("/point/batch api 요청 시 요청 순서대로 건별 처리 결과를 반환해야한다.")
+    @Test
+    void batch() throws Exception {
+        // given
+        when(pointService.processBatch(anyList())).thenReturn(List.of(
+                PointOperationResultDto.builder().userId(1L).type(TransactionType.CHARGE).amount(100L)
+                        .status(PointOperationStatus.SUCCESS).point(200L).build(),
+                PointOperationResultDto.builder().userId(2L).type(TransactionType.USE).amount(50L)
+                        .status(PointOperationStatus.INSUFFICIENT_POINT).point(0L).message("포인트가 부족하여 사용이 불가능합니다.").build()));
+
+        // when & then
+        mockMvc.perform(post("/point/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"userId\":1,\"type\":\"CHARGE\",\"amount\":100},{\"userId\":2,\"type\":\"USE\",\"amount\":50}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("SUCCESS"))
+                .andExpect(jsonPath("$[0].point").value(200L))
+                .andExpect(jsonPath("$[1].status").value("INSUFFICIENT_POINT"));
+
+        ArgumentCaptor<List<PointOperationDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointService).processBatch(captor.capture());
+        assertThat(captor.getValue()).extracting(PointOperationDto::getUserId).containsExactly(1L, 2L);
     }
 }
@@ -0,0 +1,313 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.config.PointJournalProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointHistorySummary;
+import io.hhplus.tdd.point.entity.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.journal.JournalEventType;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.repository.JournaledPointHistoryRepository;
+import io.hhplus.tdd.point.repository.JournaledUserPointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    @DisplayName("저널을 다시 열면 기록한 이벤트를 같은 순서로 재생해야한다.")
+    @Test
+    void replayAfterReopen() throws IOException {
+        // given
+        try (PointJournal journal = open()) {
+            journal.append(JournalEventType.JOIN, 1L, 100L, 1L);
+            journal.append(JournalEventType.CHARGE, 1L, 50L, 2L);
+            journal.append(JournalEventType.BALANCE, 1L, 150L, 2L);
+        }
+
+        // when
+        List<String> replayed = new ArrayList<>();
+        try (PointJournal journal = open()) {
+            journal.replay((position, type, userId, value, updateMillis) -> replayed.add(type + ":" + userId + ":" + value + ":" + updateMillis));
+        }
+
+        // then
+        assertThat(replayed).containsExactly("JOIN:1:100:1", "CHARGE:1:50:2", "BALANCE:1:150:2");
+    }
+
+    @DisplayName("세그먼트 경계를 넘어 기록해도 모든 이벤트를 재생해야한다.")
+    @Test
+    void replayAcrossSegments() throws IOException {
+        // given - 세그먼트 하나에 레코드 4건만 들어가도록 한다.
+        try (PointJournal journal = open(DataSize.ofBytes(PointJournal.RECORD_SIZE * 4L))) {
+            for (long i = 1; i <= 10; i++) {
+                journal.append(JournalEventType.BALANCE, i, i * 10, i);
+            }
+        }
+
+        // when
+        List<Long> userIds = new ArrayList<>();
+        try (PointJournal journal = open(DataSize.ofBytes(PointJournal.RECORD_SIZE * 4L))) {
+            journal.replay((position, type, userId, value, updateMillis) -> userIds.add(userId));
+        }
+
+        // then
+        assertThat(userIds).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    @DisplayName("checksum 이 맞지 않는 마지막 레코드는 버리고 그 위치부터 이어 써야한다.")
+    @Test
+    void ignoresTornRecord() throws IOException {
+        // given
+        try (PointJournal journal = open()) {
+            journal.append(JournalEventType.BALANCE, 1L, 100L, 1L);
+            journal.append(JournalEventType.BALANCE, 2L, 200L, 1L);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("point.journal").toFile(), "rw")) {
+            file.seek(PointJournal.RECORD_SIZE + 20L);
+            file.writeByte(0x7F);
+        }
+
+        // when
+        List<Long> userIds = new ArrayList<>();
+        try (PointJournal journal = open()) {
+            journal.append(JournalEventType.BALANCE, 3L, 300L, 2L);
+            journal.replay((position, type, userId, value, updateMillis) -> userIds.add(userId));
+        }
+
+        // then
+        assertThat(userIds).containsExactly(1L, 3L);
+    }
+
+    @DisplayName("저널 저장소를 다시 열면 잔액, version, 내역 id 가 그대로 복구되어야한다.")
+    @Test
+    void repositoriesRestoredFromJournal() throws IOException {
+        // given
+        try (PointJournal journal = open()) {
+            JournaledUserPointRepository userPointRepository = new JournaledUserPointRepository(journal);
+            JournaledPointHistoryRepository pointHistoryRepository = new JournaledPointHistoryRepository(journal);
+
+            userPointRepository.create(1L, 100L);
+            pointHistoryRepository.create(1L, 50L, TransactionType.CHARGE, 2L);
+            userPointRepository.update(1L, 150L);
+            pointHistoryRepository.create(1L, 30L, TransactionType.USE, 3L);
+            userPointRepository.update(1L, 120L);
+        }
+
+        // when
+        try (PointJournal journal = open()) {
+            UserPoint userPoint = new JournaledUserPointRepository(journal).selectById(1L);
+            JournaledPointHistoryRepository pointHistoryRepository = new JournaledPointHistoryRepository(journal);
+            List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(1L);
+            PointHistorySummary summary = pointHistoryRepository.selectSummaryByUserId(1L);
+            PointHistory next = pointHistoryRepository.create(1L, 10L, TransactionType.CHARGE, 4L);
+
+            // then
+            assertThat(userPoint.getPoint()).isEqualTo(120L);
+            assertThat(userPoint.getVersion()).isEqualTo(3L);
+            assertThat(histories).extracting(PointHistory::id).containsExactly(1L, 2L);
+            assertThat(histories).extracting(PointHistory::type).containsExactly(TransactionType.CHARGE, TransactionType.USE);
+            assertThat(summary.totalCharged()).isEqualTo(50L);
+            assertThat(summary.totalUsed()).isEqualTo(30L);
+            assertThat(summary.lastUpdateMillis()).isEqualTo(3L);
+            assertThat(next.id()).isEqualTo(3L);
+        }
+    }
+
+    @DisplayName("스냅샷 이후의 변경만 재생해도 잔액과 version 이 전체 재생과 같아야한다.")
+    @Test
+    void restoreFromSnapshotThenJournalTail() throws IOException {
+        // given
+        Path snapshotFile = directory.resolve("point.snapshot");
+        try (PointJournal journal = open()) {
+            JournaledUserPointRepository userPointRepository = new JournaledUserPointRepository(journal, snapshotFile);
+            userPointRepository.create(1L, 100L);
+            userPointRepository.create(2L, 200L);
+            userPointRepository.update(1L, 150L);
+
+            userPointRepository.writeSnapshot(snapshotFile);
+
+            userPointRepository.update(1L, 180L);
+            userPointRepository.create(3L, 300L);
+        }
+
+        // when
+        UserPoint user1;
+        UserPoint user2;
+        UserPoint user3;
+        try (PointJournal journal = open()) {
+            JournaledUserPointRepository restored = new JournaledUserPointRepository(journal, snapshotFile);
+            user1 = restored.selectById(1L);
+            user3 = restored.selectById(3L);
+            user2 = restored.selectById(2L);
+        }
+
+        // then
+        assertThat(user1.getPoint()).isEqualTo(180L);
+        assertThat(user1.getVersion()).isEqualTo(3L);
+        assertThat(user2.getPoint()).isEqualTo(200L);
+        assertThat(user3.getPoint()).isEqualTo(300L);
+        assertThat(user3.getVersion()).isEqualTo(1L);
+    }
+
+    @DisplayName("내역 스냅샷이 있으면 스냅샷 위치 이전의 저널 기록은 다시 읽지 않고 내역, 집계, 다음 id 가 복구되어야한다.")
+    @Test
+    void restoreHistoriesFromSnapshotThenJournalTail() throws IOException {
+        // given
+        Path snapshotFile = directory.resolve("point-history.snapshot");
+        long snapshotPosition;
+        try (PointJournal journal = open()) {
+            JournaledPointHistoryRepository pointHistoryRepository = new JournaledPointHistoryRepository(journal, snapshotFile);
+            pointHistoryRepository.create(1L, 100L, TransactionType.CHARGE, 1L);
+            pointHistoryRepository.create(2L, 200L, TransactionType.CHARGE, 2L);
+            pointHistoryRepository.create(1L, 30L, TransactionType.USE, 3L);
+
+            snapshotPosition = journal.position();
+            pointHistoryRepository.writeSnapshot(snapshotFile);
+
+            pointHistoryRepository.create(1L, 50L, TransactionType.CHARGE, 4L);
+        }
+
+        // when - 재생을 시작한 위치를 기록한다.
+        List<Long> replayedFrom = new ArrayList<>();
+        PointJournalProperties properties = new PointJournalProperties();
+        properties.setSegmentSize(DataSize.ofMegabytes(1));
+        try (PointJournal journal = new PointJournal(directory.resolve("point.journal"), properties, new SimpleMeterRegistry()) {
+            @Override
+            public long replay(long fromPosition, Visitor visitor) {
+                replayedFrom.add(fromPosition);
+                return super.replay(fromPosition, visitor);
+            }
+        }) {
+            JournaledPointHistoryRepository restored = new JournaledPointHistoryRepository(journal, snapshotFile);
+            List<PointHistory> histories = restored.selectAllByUserId(1L);
+            PointHistorySummary summary = restored.selectSummaryByUserId(1L);
+            PointHistory next = restored.create(2L, 10L, TransactionType.USE, 5L);
+
+            // then
+            assertThat(replayedFrom).containsExactly(snapshotPosition);
+            assertThat(histories).extracting(PointHistory::id).containsExactly(1L, 3L, 4L);
+            assertThat(summary.totalCharged()).isEqualTo(150L);
+            assertThat(summary.totalUsed()).isEqualTo(30L);
+            assertThat(restored.selectAllByUserId(2L)).extracting(PointHistory::id).containsExactly(2L, 5L);
+            assertThat(next.id()).isEqualTo(5L);
+        }
+    }
+
+    @DisplayName("손상된 스냅샷은 무시하고 저널 처음부터 재생해야한다.")
+    @Test
+    void corruptedSnapshotFallsBackToFullReplay() throws IOException {
+        // given
+        Path snapshotFile = directory.resolve("point.snapshot");
+        try (PointJournal journal = open()) {
+            JournaledUserPointRepository userPointRepository = new JournaledUserPointRepository(journal, snapshotFile);
+            userPointRepository.create(1L, 100L);
+            userPointRepository.writeSnapshot(snapshotFile);
+            userPointRepository.update(1L, 150L);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(snapshotFile.toFile(), "rw")) {
+            file.seek(40L);
+            file.writeByte(0x7F);
+        }
+
+        // when
+        UserPoint userPoint;
+        try (PointJournal journal = open()) {
+            userPoint = new JournaledUserPointRepository(journal, snapshotFile).selectById(1L);
+        }
+
+        // then
+        assertThat(userPoint.getPoint()).isEqualTo(150L);
+        assertThat(userPoint.getVersion()).isEqualTo(2L);
+    }
+
+    @DisplayName("같은 유저를 동시에 변경해도 저널을 재생한 잔액과 version 이 메모리와 같아야한다.")
+    @Test
+    void concurrentWritesReplayInJournalOrder() throws Exception {
+        // given
+        int threads = 8;
+        int writesPerThread = 50;
+        UserPoint expected;
+        try (PointJournal journal = open()) {
+            JournaledUserPointRepository userPointRepository = new JournaledUserPointRepository(journal);
+            userPointRepository.create(1L, 0L);
+
+            // when
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    long base = t * 1_000L;
+                    futures.add(executor.submit(() -> {
+                        for (int i = 1; i <= writesPerThread; i++) {
+                            userPointRepository.update(1L, base + i);
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            expected = userPointRepository.selectById(1L);
+        }
+
+        UserPoint restored;
+        try (PointJournal journal = open()) {
+            restored = new JournaledUserPointRepository(journal).selectById(1L);
+        }
+
+        // then
+        assertThat(expected.getVersion()).isEqualTo(1L + threads * writesPerThread);
+        assertThat(restored.getPoint()).isEqualTo(expected.getPoint());
+        assertThat(restored.getVersion()).isEqualTo(expected.getVersion());
+    }
+
+    @DisplayName("fsync 가 fsyncTimeout 안에 끝나지 않으면 반영을 기다리던 요청은 예외로 끝나야한다.")
+    @Test
+    void awaitDurableIsBounded() throws IOException {
+        // given - 주기 fsync 가 돌지 않도록 주기를 길게 둔다.
+        PointJournalProperties properties = new PointJournalProperties();
+        properties.setSegmentSize(DataSize.ofMegabytes(1));
+        properties.setFsyncInterval(Duration.ofHours(1));
+        properties.setFsyncTimeout(Duration.ofMillis(50));
+
+        try (PointJournal journal = new PointJournal(directory.resolve("point.journal"), properties, new SimpleMeterRegistry())) {
+            long position = journal.append(JournalEventType.CHARGE, 1L, 100L, 1L);
+
+            // when & then
+            assertThatThrownBy(() -> journal.awaitDurable(position))
+                    .isInstanceOf(IllegalStateException.class);
+
+            journal.flush();
+            journal.awaitDurable(position);
+        }
+    }
+
+    private PointJournal open() throws IOException {
+        return open(DataSize.ofMegabytes(1));
+    }
+
+    private PointJournal open(DataSize segmentSize) throws IOException {
+
+        PointJournalProperties properties = new PointJournalProperties();
+        properties.setSegmentSize(segmentSize);
+        return new PointJournal(directory.resolve("point.journal"), properties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.config.PointLockProperties;
+import io.hhplus.tdd.point.lock.PointLockRegistry;
+import io.hhplus.tdd.point.lock.RefCountedPointLockRegistry;
+import io.hhplus.tdd.point.lock.StripedPointLockRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointLockRegistryTest {
+
+    @DisplayName("ref-counted 레지스트리는 사용이 끝난 유저의 lock 을 제거해야한다.")
+    @Test
+    void refCounted_removesIdleLocks() {
+        // given
+        PointLockRegistry registry = new RefCountedPointLockRegistry(new PointLockProperties());
+
+        // when
+        for (long userId = 1; userId <= 1000; userId++) {
+            Lock lock = registry.acquire(userId);
+            registry.release(userId, lock);
+        }
+
+        // then
+        assertThat(registry.liveLockCount()).isZero();
+    }
+
+    @DisplayName("ref-counted 레지스트리는 대기 중인 스레드가 있으면 lock 을 유지하고 경합을 집계해야한다.")
+    @Test
+    void refCounted_keepsLockWhileWaiting() throws InterruptedException {
+        // given
+        PointLockRegistry registry = new RefCountedPointLockRegistry(new PointLockProperties());
+        long userId = 1L;
+        Lock held = registry.acquire(userId);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch acquired = new CountDownLatch(1);
+        executor.submit(() -> {
+            Lock lock = registry.acquire(userId);
+            acquired.countDown();
+            registry.release(userId, lock);
+        });
+
+        // when
+        Thread.sleep(100);
+        assertThat(acquired.getCount()).isEqualTo(1);
+        registry.release(userId, held);
+
+        // then
+        assertThat(acquired.await(1, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+        assertThat(registry.contentionCount()).isEqualTo(1);
+        assertThat(registry.liveLockCount()).isZero();
+    }
+
+    @DisplayName("striped 레지스트리는 유저 수와 무관하게 설정한 개수의 lock 만 유지해야한다.")
+    @Test
+    void striped_keepsFixedLockCount() {
+        // given
+        PointLockProperties properties = new PointLockProperties();
+        properties.setStripes(64);
+        PointLockRegistry registry = new StripedPointLockRegistry(properties);
+
+        // when
+        for (long userId = 1; userId <= 1000; userId++) {
+            Lock lock = registry.acquire(userId);
+            registry.release(userId, lock);
+        }
+
+        // then
+        assertThat(registry.liveLockCount()).isEqualTo(64);
+    }
+
+    @DisplayName("MeterRegistry 에 바인딩되면 lock 대기/점유 시간을 기록해야한다.")
+    @Test
+    void recordsWaitAndHoldTime() throws InterruptedException {
+        // given
+        RefCountedPointLockRegistry registry = new RefCountedPointLockRegistry(new PointLockProperties());
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        registry.bindTo(meterRegistry);
+
+        // when
+        Lock lock = registry.acquire(1L);
+        Thread.sleep(50);
+        registry.release(1L, lock);
+
+        // then
+        assertThat(meterRegistry.get("point.lock.wait").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.lock.hold").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.lock.hold").timer().totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+    }
+}
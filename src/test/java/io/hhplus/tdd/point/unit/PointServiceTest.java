@@ -1,6 +1,10 @@
 package io.hhplus.tdd.point.unit;
 
+import io.hhplus.tdd.point.config.PointLockProperties;
 import io.hhplus.tdd.point.dto.PointHistoryDto;
+import io.hhplus.tdd.point.dto.PointOperationDto;
+import io.hhplus.tdd.point.dto.PointOperationResultDto;
+import io.hhplus.tdd.point.dto.PointOperationStatus;
 import io.hhplus.tdd.point.dto.UserPointDto;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.TransactionType;
@@ -8,6 +12,8 @@ import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.exception.InsufficientPointException;
 import io.hhplus.tdd.point.exception.NegativeValueException;
 import io.hhplus.tdd.point.exception.PointLimitExceededException;
+import io.hhplus.tdd.point.lock.PointLockRegistry;
+import io.hhplus.tdd.point.lock.RefCountedPointLockRegistry;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
 import io.hhplus.tdd.point.service.PointServiceImpl;
@@ -17,17 +23,21 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class PointServiceImplTest {
 
@@ -37,6 +47,9 @@ class PointServiceImplTest {
     @Mock
     private UserPointRepository userPointRepository;
 
+    @Spy
+    private PointLockRegistry lockRegistry = new RefCountedPointLockRegistry(new PointLockProperties());
+
     @InjectMocks
     private PointServiceImpl pointService;
 
@@ -184,4 +197,144 @@ class PointServiceImplTest {
         then(userPointRepository).should(never()).update(anyLong(), anyLong());
         then(pointHistoryRepository).should(never()).create(anyLong(), anyLong(), eq(TransactionType.CHARGE), anyLong());
     }
+
+    @DisplayName("일괄 처리 시 한 유저의 요청은 순서대로 적용되고 잔액은 한 번만 저장되어야 한다.")
+    @Test
+    void processBatch_appliesUserOperationsInOrderWithSingleUpdate() {
+        // given
+        long otherUserId = 2L;
+        UserPoint userPoint = new UserPoint(userId, initialPoint, System.currentTimeMillis());
+        UserPoint otherUserPoint = new UserPoint(otherUserId, 0L, System.currentTimeMillis());
+
+        given(userPointRepository.selectById(userId)).willReturn(userPoint);
+        given(userPointRepository.selectById(otherUserId)).willReturn(otherUserPoint);
+
+        List<PointOperationDto> operations = List.of(
+                PointOperationDto.builder().userId(userId).type(TransactionType.CHARGE).amount(100L).build(),
+                PointOperationDto.builder().userId(otherUserId).type(TransactionType.USE).amount(10L).build(),
+                PointOperationDto.builder().userId(userId).type(TransactionType.USE).amount(5000L).build(),
+                PointOperationDto.builder().userId(userId).type(TransactionType.USE).amount(200L).build(),
+                PointOperationDto.builder().userId(userId).type(TransactionType.CHARGE).amount(-1L).build());
+
+        // when
+        List<PointOperationResultDto> results = pointService.processBatch(operations);
+
+        // then
+        assertThat(results).extracting(PointOperationResultDto::getStatus).containsExactly(
+                PointOperationStatus.SUCCESS,
+                PointOperationStatus.INSUFFICIENT_POINT,
+                PointOperationStatus.INSUFFICIENT_POINT,
+                PointOperationStatus.SUCCESS,
+                PointOperationStatus.NEGATIVE_VALUE);
+        assertThat(results.get(3).getPoint()).isEqualTo(initialPoint + 100L - 200L);
+
+        then(userPointRepository).should(times(1)).selectById(userId);
+        then(userPointRepository).should(times(1)).update(userId, initialPoint + 100L - 200L);
+        then(userPointRepository).should(never()).update(eq(otherUserId), anyLong());
+        then(pointHistoryRepository).should(times(2)).create(eq(userId), anyLong(), any(TransactionType.class), anyLong());
+    }
+
+    @DisplayName("포인트 충전 시 이력 저장이 실패하면 잔액을 이전 값으로 되돌려야한다.")
+    @Test
+    void chargePoint_whenHistoryFails_restoresBalance() {
+        // given
+        long chargeAmount = 200L;
+        given(userPointRepository.selectById(anyLong())).willReturn(new UserPoint(userId, initialPoint, System.currentTimeMillis()));
+        given(pointHistoryRepository.create(anyLong(), anyLong(), any(TransactionType.class), anyLong()))
+                .willThrow(new IllegalStateException("history failure"));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.chargePoint(UserPointDto.builder().id(userId).amount(chargeAmount).build()))
+                .isInstanceOf(IllegalStateException.class);
+        then(userPointRepository).should().update(userId, initialPoint + chargeAmount);
+        then(userPointRepository).should().update(userId, initialPoint);
+    }
+
+    @DisplayName("포인트 사용 시 잔액 저장이 실패하면 반대 방향 이력으로 저장된 이력을 상쇄해야한다.")
+    @Test
+    void usePoint_whenUpdateFails_reversesHistory() {
+        // given
+        long useAmount = 200L;
+        given(userPointRepository.selectById(anyLong())).willReturn(new UserPoint(userId, initialPoint, System.currentTimeMillis()));
+        given(userPointRepository.update(anyLong(), anyLong())).willThrow(new IllegalStateException("update failure"));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.usePoint(UserPointDto.builder().id(userId).amount(useAmount).build()))
+                .isInstanceOf(IllegalStateException.class);
+        then(pointHistoryRepository).should().create(eq(userId), eq(useAmount), eq(TransactionType.USE), anyLong());
+        then(pointHistoryRepository).should().create(eq(userId), eq(useAmount), eq(TransactionType.CHARGE), anyLong());
+    }
+
+    @DisplayName("일괄 처리 중 이력 저장이 실패한 요청은 잔액에 반영되지 않아야 한다.")
+    @Test
+    void processBatch_whenHistoryFails_skipsOperation() {
+        // given
+        given(userPointRepository.selectById(userId)).willReturn(new UserPoint(userId, initialPoint, System.currentTimeMillis()));
+        given(pointHistoryRepository.create(eq(userId), eq(100L), eq(TransactionType.CHARGE), anyLong()))
+                .willThrow(new IllegalStateException("history failure"));
+
+        List<PointOperationDto> operations = List.of(
+                PointOperationDto.builder().userId(userId).type(TransactionType.CHARGE).amount(100L).build(),
+                PointOperationDto.builder().userId(userId).type(TransactionType.USE).amount(200L).build());
+
+        // when
+        List<PointOperationResultDto> results = pointService.processBatch(operations);
+
+        // then
+        assertThat(results.get(0).getPoint()).isEqualTo(initialPoint);
+        assertThat(results.get(1).getStatus()).isEqualTo(PointOperationStatus.SUCCESS);
+        assertThat(results.get(1).getPoint()).isEqualTo(initialPoint - 200L);
+        then(userPointRepository).should().update(userId, initialPoint - 200L);
+    }
+
+    @DisplayName("일괄 처리 중 잔액 저장이 실패하면 반대 방향 이력으로 저장된 이력을 상쇄해야한다.")
+    @Test
+    void processBatch_whenUpdateFails_reversesHistories() {
+        // given
+        given(userPointRepository.selectById(userId)).willReturn(new UserPoint(userId, initialPoint, System.currentTimeMillis()));
+        given(userPointRepository.update(anyLong(), anyLong())).willThrow(new IllegalStateException("update failure"));
+
+        List<PointOperationDto> operations = List.of(
+                PointOperationDto.builder().userId(userId).type(TransactionType.CHARGE).amount(100L).build(),
+                PointOperationDto.builder().userId(userId).type(TransactionType.USE).amount(200L).build());
+
+        // when
+        List<PointOperationResultDto> results = pointService.processBatch(operations);
+
+        // then
+        assertThat(results).extracting(PointOperationResultDto::getStatus).doesNotContain(PointOperationStatus.SUCCESS);
+        assertThat(results).extracting(PointOperationResultDto::getPoint).containsOnlyNulls();
+        then(pointHistoryRepository).should().create(eq(userId), eq(100L), eq(TransactionType.USE), anyLong());
+        then(pointHistoryRepository).should().create(eq(userId), eq(200L), eq(TransactionType.CHARGE), anyLong());
+    }
+
+    @DisplayName("일괄 처리 요청 수가 한도를 넘으면 IllegalArgumentException이 발생해야 한다.")
+    @Test
+    void processBatch_whenTooManyOperations_throwsException() {
+        // given
+        List<PointOperationDto> operations = new ArrayList<>();
+        for (int i = 0; i <= 1000; i++) {
+            operations.add(PointOperationDto.builder().userId(userId).type(TransactionType.CHARGE).amount(1L).build());
+        }
+
+        // when & then
+        assertThatThrownBy(() -> pointService.processBatch(operations))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(userPointRepository).should(never()).selectById(anyLong());
+    }
+
+    @DisplayName("잔액 되돌리기도 실패하면 원래 예외를 던지고 되돌리기 실패 수를 세어야한다.")
+    @Test
+    void chargePoint_whenCompensationFails_countsFailure() {
+        // given
+        given(userPointRepository.selectById(anyLong())).willReturn(new UserPoint(userId, initialPoint, System.currentTimeMillis()));
+        given(pointHistoryRepository.create(anyLong(), anyLong(), any(TransactionType.class), anyLong()))
+                .willThrow(new IllegalStateException("history failure"));
+        given(userPointRepository.update(userId, initialPoint)).willThrow(new IllegalStateException("update failure"));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.chargePoint(UserPointDto.builder().id(userId).amount(200L).build()))
+                .hasMessage("history failure");
+        assertThat(pointService.compensationFailureCount()).isEqualTo(1L);
+    }
 }
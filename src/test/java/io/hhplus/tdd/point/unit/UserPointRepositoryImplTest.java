@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.exception.PointVersionConflictException;
+import io.hhplus.tdd.point.repository.UserPointRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+class UserPointRepositoryImplTest {
+
+    @Mock
+    private UserPointTable userPointTable;
+
+    private UserPointRepositoryImpl repository;
+
+    private final static long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        given(userPointTable.selectById(userId)).willReturn(UserPoint.empty(userId));
+        given(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .willAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis()));
+
+        repository = new UserPointRepositoryImpl(userPointTable, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("조건 없는 쓰기와 조건부 update 는 저장한 version 을 반환하고, 이전 version 으로 하는 update 는 실패해야한다.")
+    @Test
+    void writesReturnStoredVersion() {
+        // given
+        UserPoint created = repository.create(userId, 100L);
+
+        // when
+        UserPoint updated = repository.update(userId, created.getVersion(), 200L);
+
+        // then
+        assertThat(created.getVersion()).isEqualTo(1L);
+        assertThat(updated.getVersion()).isEqualTo(2L);
+        assertThat(repository.selectById(userId).getVersion()).isEqualTo(2L);
+        assertThatThrownBy(() -> repository.update(userId, created.getVersion(), 300L))
+                .isInstanceOf(PointVersionConflictException.class);
+    }
+
+    @DisplayName("조건부 update 가 쓰는 중이면 조건 없는 쓰기는 끝날 때까지 기다린 뒤 다음 version 으로 저장해야한다.")
+    @Test
+    void unconditionalWriteWaitsForConditionalUpdate() throws Exception {
+        // given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(userPointTable.insertOrUpdate(userId, 100L)).willAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new UserPoint(userId, 100L, System.currentTimeMillis());
+        });
+        CompletableFuture<UserPoint> conditional = CompletableFuture.supplyAsync(() -> repository.update(userId, 0L, 100L));
+        writing.await(5, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<UserPoint> unconditional = CompletableFuture.supplyAsync(() -> repository.update(userId, 200L));
+        release.countDown();
+
+        // then
+        assertThat(conditional.get(5, TimeUnit.SECONDS).getVersion()).isEqualTo(1L);
+        assertThat(unconditional.get(5, TimeUnit.SECONDS).getVersion()).isEqualTo(2L);
+        assertThat(repository.selectById(userId).getVersion()).isEqualTo(2L);
+    }
+
+    @DisplayName("조회만 한 유저는 version 상태를 만들지 않아야한다.")
+    @Test
+    void readsDoNotTrackVersions() {
+        // given
+        given(userPointTable.selectById(userId + 1)).willReturn(UserPoint.empty(userId + 1));
+
+        // when
+        repository.selectById(userId);
+        repository.selectByIds(List.of(userId, userId + 1));
+
+        // then
+        assertThat(repository.versionCount()).isZero();
+    }
+
+    @DisplayName("쓰지 않은 version 상태를 제거해도 이전 조회의 version 은 다시 쓰기 전까지만 유효해야한다.")
+    @Test
+    void evictedVersionsDoNotGoBackwards() {
+        // given
+        given(userPointTable.selectById(userId + 1)).willReturn(UserPoint.empty(userId + 1));
+        repository.create(userId, 100L);
+        UserPoint read = repository.selectById(userId);
+        UserPoint stale = repository.selectById(userId + 1);
+        repository.update(userId + 1, stale.getVersion(), 10L);
+
+        // when
+        repository.evictVersionsWrittenBefore(System.currentTimeMillis() + 1);
+
+        // then - 제거 후에도 마지막 조회 version 으로는 쓸 수 있고, 그 사이 쓰기가 있었던 version 으로는 쓸 수 없다.
+        assertThat(repository.versionCount()).isZero();
+        assertThat(repository.update(userId, read.getVersion(), 200L).getPoint()).isEqualTo(200L);
+        assertThatThrownBy(() -> repository.update(userId + 1, stale.getVersion(), 20L))
+                .isInstanceOf(PointVersionConflictException.class);
+        assertThatThrownBy(() -> repository.update(userId, read.getVersion(), 300L))
+                .isInstanceOf(PointVersionConflictException.class);
+    }
+}
@@ -0,0 +1,142 @@
+package io.hhplus.tdd.point.unit;
+
+import io.hhplus.tdd.point.config.WriteBehindProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.WriteBehindUserPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class WriteBehindUserPointRepositoryTest {
+
+    @Mock
+    private UserPointRepository delegate;
+
+    private WriteBehindUserPointRepository repository;
+
+    private final static long userId = 1L;
+    private final static long initialPoint = 1000L;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.setMaxDirtyAge(Duration.ofHours(1));
+        repository = new WriteBehindUserPointRepository(delegate, properties);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        repository.destroy();
+    }
+
+    @DisplayName("최초 조회 이후의 조회는 delegate 를 호출하지 않고 캐시에서 반환해야한다.")
+    @Test
+    void selectById_servedFromCacheAfterFirstLoad() {
+        // given
+        given(delegate.selectById(anyLong())).willReturn(new UserPoint(userId, initialPoint, System.currentTimeMillis()));
+
+        // when
+        repository.selectById(userId);
+        UserPoint result = repository.selectById(userId);
+
+        // then
+        assertThat(result.getPoint()).isEqualTo(initialPoint);
+        then(delegate).should(times(1)).selectById(userId);
+    }
+
+    @DisplayName("여러 번의 update 는 캐시에 즉시 반영되고, flush 시 한 번의 update 로 합쳐져야한다.")
+    @Test
+    void update_coalescedIntoSingleFlush() {
+        // given
+        repository.update(userId, 100L);
+        repository.update(userId, 200L);
+        repository.update(userId, 300L);
+
+        // when
+        UserPoint cached = repository.selectById(userId);
+        then(delegate).should(never()).update(anyLong(), anyLong());
+        repository.flushAll();
+
+        // then
+        assertThat(cached.getPoint()).isEqualTo(300L);
+        then(delegate).should(times(1)).update(userId, 300L);
+        then(delegate).should(never()).selectById(anyLong());
+    }
+
+    @DisplayName("종료 시 반영되지 않은 변경을 모두 반영해야한다.")
+    @Test
+    void destroy_flushesPendingUpdates() throws InterruptedException {
+        // given
+        repository.update(userId, 500L);
+        repository.update(2L, 700L);
+
+        // when
+        repository.destroy();
+
+        // then
+        then(delegate).should().update(userId, 500L);
+        then(delegate).should().update(2L, 700L);
+    }
+
+    @DisplayName("쓰기 요청에서 직접 반영하다 실패해도 예외를 던지지 않고, 변경은 남아 flusher 가 다시 반영해야한다.")
+    @Test
+    void overdueFlushFailure_leftForFlusher() throws InterruptedException {
+        // given
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.setMaxDirtyAge(Duration.ZERO);
+        WriteBehindUserPointRepository overdue = new WriteBehindUserPointRepository(delegate, properties);
+        willThrow(new IllegalStateException("table unavailable")).willReturn(null).given(delegate).update(eq(userId), anyLong());
+
+        // when
+        UserPoint written = overdue.update(userId, 300L);
+        overdue.flushAll();
+
+        // then
+        assertThat(written.getPoint()).isEqualTo(300L);
+        then(delegate).should(times(2)).update(userId, 300L);
+        overdue.destroy();
+    }
+
+    @DisplayName("반영이 끝난 뒤 오래 사용하지 않은 유저는 캐시에서 제거되고, 다음 조회는 delegate 에서 다시 읽어야한다.")
+    @Test
+    void flushAll_evictsIdleCleanEntries() throws InterruptedException {
+        // given
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.setMaxDirtyAge(Duration.ofHours(1));
+        properties.setExpireAfterAccess(Duration.ZERO);
+        WriteBehindUserPointRepository evicting = new WriteBehindUserPointRepository(delegate, properties);
+        given(delegate.selectById(userId)).willReturn(new UserPoint(userId, 500L, System.currentTimeMillis()));
+        evicting.update(userId, 500L);
+
+        // when
+        evicting.flushAll();
+        evicting.flushAll();
+        UserPoint reloaded = evicting.selectById(userId);
+
+        // then
+        then(delegate).should(times(1)).update(userId, 500L);
+        then(delegate).should(times(1)).selectById(userId);
+        assertThat(reloaded.getPoint()).isEqualTo(500L);
+        evicting.destroy();
+    }
+}